@@ -0,0 +1,73 @@
+package com.algaworks.algashop.ordering.domain;
+
+import com.algaworks.algashop.ordering.domain.valueobject.*;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+
+import java.time.LocalDate;
+
+public class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Product[] products(int count) {
+        Product[] products = new Product[count];
+        for (int i = 0; i < count; i++) {
+            products[i] = aProduct(i);
+        }
+        return products;
+    }
+
+    public static Product aProduct(int index) {
+        return Product.builder()
+                .id(new ProductId())
+                .name(new ProductName("Product " + index))
+                .price(new Money("19.90"))
+                .inStock(true)
+                .build();
+    }
+
+    public static Product anOutOfStockProduct() {
+        return Product.builder()
+                .id(new ProductId())
+                .name(new ProductName("Sold out"))
+                .price(new Money("19.90"))
+                .inStock(false)
+                .build();
+    }
+
+    public static Billing aBilling() {
+        return Billing.builder()
+                .address(anAddress())
+                .document(new Document("225-09-1992"))
+                .phone(new Phone("123-111-9911"))
+                .fullName(new FullName("John", "Doe"))
+                .email(new Email("jhon.doe@gmail.com"))
+                .build();
+    }
+
+    public static Shipping aShipping() {
+        return Shipping.builder()
+                .cost(new Money("10"))
+                .expectedDate(LocalDate.now().plusWeeks(1))
+                .address(anAddress())
+                .recipient(Recipient.builder()
+                        .fullName(new FullName("John", "Doe"))
+                        .document(new Document("112-33-2321"))
+                        .phone(new Phone("111-441-1244"))
+                        .build())
+                .build();
+    }
+
+    public static Address anAddress() {
+        return Address.builder()
+                .street("Bourbon Street")
+                .number("1234")
+                .neighborhood("North Ville")
+                .complement("apt. 11")
+                .city("Montfort")
+                .state("South Carolina")
+                .zipCode(new ZipCode("79911"))
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.algaworks.algashop.ordering.domain.entity;
+
+import com.algaworks.algashop.ordering.domain.BenchmarkFixtures;
+import com.algaworks.algashop.ordering.domain.valueobject.*;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CustomerRehydrationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int distinctCustomers;
+
+    private UUID[] ids;
+    private String[] emails;
+    private OffsetDateTime registeredAt;
+    private Address address;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ids = new UUID[distinctCustomers];
+        emails = new String[distinctCustomers];
+        for (int i = 0; i < distinctCustomers; i++) {
+            ids[i] = UUID.randomUUID();
+            emails[i] = "customer." + i + "@algashop.com";
+        }
+        registeredAt = OffsetDateTime.now();
+        address = BenchmarkFixtures.anAddress();
+    }
+
+    @Benchmark
+    public Customer validatedEmail() {
+        int index = nextIndex();
+        return rehydrate(index, new Email(emails[index]));
+    }
+
+    @Benchmark
+    public Customer trustedEmail() {
+        int index = nextIndex();
+        return rehydrate(index, Email.trusted(emails[index]));
+    }
+
+    private Customer rehydrate(int index, Email email) {
+        return Customer.existing()
+                .id(new CustomerId(ids[index]))
+                .fullName(new FullName("John", "Doe"))
+                .birthDate(new BirthDate(LocalDate.of(1991, 7, 5)))
+                .email(email)
+                .phone(new Phone("478-256-2604"))
+                .document(new Document("255-08-0578"))
+                .promotionNotificationsAllowed(true)
+                .archived(false)
+                .registeredAt(registeredAt)
+                .loyaltyPoints(LoyaltyPoints.ZERO)
+                .address(address)
+                .build();
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) % distinctCustomers;
+        return cursor;
+    }
+}
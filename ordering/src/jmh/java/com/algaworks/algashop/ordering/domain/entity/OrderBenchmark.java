@@ -0,0 +1,55 @@
+package com.algaworks.algashop.ordering.domain.entity;
+
+import com.algaworks.algashop.ordering.domain.BenchmarkFixtures;
+import com.algaworks.algashop.ordering.domain.valueobject.Billing;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.Shipping;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderBenchmark {
+
+    @Param({"1", "20", "200"})
+    private int itemCount;
+
+    private CustomerId customerId;
+    private Product[] products;
+    private Billing billing;
+    private Shipping shipping;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        customerId = new CustomerId();
+        products = BenchmarkFixtures.products(itemCount);
+        billing = BenchmarkFixtures.aBilling();
+        shipping = BenchmarkFixtures.aShipping();
+    }
+
+    @Benchmark
+    public Order addItem() {
+        Order order = Order.draft(customerId);
+        for (Product product : products) {
+            order.addItem(product, Quantity.of(2));
+        }
+        return order;
+    }
+
+    @Benchmark
+    public Order place() {
+        Order order = Order.draft(customerId);
+        order.changeBilling(billing);
+        order.changeShipping(shipping);
+        order.changePaymentMethod(PaymentMethod.CREDIT_CARD);
+        for (Product product : products) {
+            order.addItem(product, Quantity.of(2));
+        }
+        order.place();
+        return order;
+    }
+}
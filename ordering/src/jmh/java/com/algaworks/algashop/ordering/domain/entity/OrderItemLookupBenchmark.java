@@ -0,0 +1,63 @@
+package com.algaworks.algashop.ordering.domain.entity;
+
+import com.algaworks.algashop.ordering.domain.BenchmarkFixtures;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderItemId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderItemLookupBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int itemCount;
+
+    private Order order;
+    private OrderItem[] items;
+    private ProductId[] productIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        order = Order.draft(new CustomerId());
+        Product[] products = BenchmarkFixtures.products(itemCount);
+        productIds = new ProductId[itemCount];
+
+        for (int i = 0; i < itemCount; i++) {
+            productIds[i] = products[i].id();
+            order.addItem(products[i], new Quantity(1));
+        }
+
+        items = order.items().toArray(OrderItem[]::new);
+    }
+
+    @Benchmark
+    public boolean indexedItemLookup() {
+        return order.items().contains(items[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean indexedProductLookup() {
+        return order.containsProduct(productIds[nextIndex()]);
+    }
+
+    @Benchmark
+    public OrderItem linearScanBaseline() {
+        OrderItemId itemId = items[nextIndex()].id();
+        return order.items().stream()
+                .filter(i -> i.id().equals(itemId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) % itemCount;
+        return cursor;
+    }
+}
@@ -0,0 +1,59 @@
+package com.algaworks.algashop.ordering.domain.entity;
+
+import com.algaworks.algashop.ordering.domain.valueobject.Money;
+import com.algaworks.algashop.ordering.domain.valueobject.ProductName;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderItemId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderItemTotalsBenchmark {
+
+    private static final Quantity[] QUANTITIES = {new Quantity(1), new Quantity(3), new Quantity(7), new Quantity(12)};
+
+    private OrderItem orderItem;
+    private BigDecimal price;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Money money = new Money("149.90");
+        price = money.value();
+        orderItem = OrderItem.existing()
+                .id(new OrderItemId())
+                .orderId(new OrderId())
+                .productId(new ProductId())
+                .productName(new ProductName("Notebook"))
+                .price(money)
+                .quantity(new Quantity(1))
+                .totalAmount(money)
+                .build();
+    }
+
+    @Benchmark
+    public Money recalculateTotals() {
+        orderItem.changeQuantity(nextQuantity());
+        return orderItem.totalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalBaseline() {
+        Quantity quantity = nextQuantity();
+        return price.setScale(2, RoundingMode.HALF_EVEN)
+                .multiply(new BigDecimal(quantity.value()))
+                .setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    private Quantity nextQuantity() {
+        cursor = (cursor + 1) & (QUANTITIES.length - 1);
+        return QUANTITIES[cursor];
+    }
+}
@@ -0,0 +1,41 @@
+package com.algaworks.algashop.ordering.domain.entity;
+
+import com.algaworks.algashop.ordering.domain.BenchmarkFixtures;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShoppingCartAddItemBenchmark {
+
+    @Param({"10", "100"})
+    private int productCount;
+
+    @Param({"5"})
+    private int addsPerProduct;
+
+    private CustomerId customerId;
+    private Product[] products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        customerId = new CustomerId();
+        products = BenchmarkFixtures.products(productCount);
+    }
+
+    @Benchmark
+    public ShoppingCart addItemLoop() {
+        ShoppingCart cart = ShoppingCart.startShopping(customerId);
+        for (int round = 0; round < addsPerProduct; round++) {
+            for (Product product : products) {
+                cart.addItem(product, Quantity.of(round + 1));
+            }
+        }
+        return cart;
+    }
+}
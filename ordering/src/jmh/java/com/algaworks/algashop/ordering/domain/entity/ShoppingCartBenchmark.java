@@ -0,0 +1,64 @@
+package com.algaworks.algashop.ordering.domain.entity;
+
+import com.algaworks.algashop.ordering.domain.BenchmarkFixtures;
+import com.algaworks.algashop.ordering.domain.valueobject.Money;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShoppingCartBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int itemCount;
+
+    private Product[] products;
+    private Product[] repricedProducts;
+    private ShoppingCart cart;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        products = BenchmarkFixtures.products(itemCount);
+        repricedProducts = new Product[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            repricedProducts[i] = Product.builder()
+                    .id(products[i].id())
+                    .name(products[i].name())
+                    .price(new Money("17.90"))
+                    .inStock(i % 2 == 0)
+                    .build();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void fillCart() {
+        cart = ShoppingCart.startShopping(new CustomerId());
+        for (Product product : products) {
+            cart.addItem(product, Quantity.of(1));
+        }
+    }
+
+    @Benchmark
+    public ShoppingCart addItem() {
+        cart.addItem(products[nextIndex()], Quantity.of(1));
+        return cart;
+    }
+
+    @Benchmark
+    public ShoppingCart refreshItem() {
+        int index = nextIndex();
+        cart.refreshItem((cursor & 1) == 0 ? repricedProducts[index] : products[index]);
+        return cart;
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) % itemCount;
+        return cursor;
+    }
+}
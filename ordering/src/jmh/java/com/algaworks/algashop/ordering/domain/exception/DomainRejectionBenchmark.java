@@ -0,0 +1,71 @@
+package com.algaworks.algashop.ordering.domain.exception;
+
+import com.algaworks.algashop.ordering.domain.BenchmarkFixtures;
+import com.algaworks.algashop.ordering.domain.entity.AddItemResult;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DomainRejectionBenchmark {
+
+    private ProductId productId;
+    private Product outOfStockProduct;
+    private ShoppingCart cart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        outOfStockProduct = BenchmarkFixtures.anOutOfStockProduct();
+        productId = outOfStockProduct.id();
+        cart = ShoppingCart.startShopping(new CustomerId());
+    }
+
+    @Benchmark
+    public DomainException rejectStackless() {
+        try {
+            throw new ProductOutOfStockException(productId);
+        } catch (DomainException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public String rejectStacklessAndReadMessage() {
+        try {
+            throw new ProductOutOfStockException(productId);
+        } catch (DomainException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public DomainException rejectWithStackTraceAndEagerMessage() {
+        try {
+            throw new DomainException(String.format(ErrorMessages.ERROR_PRODUCT_IS_OUT_OF_STOCK, productId));
+        } catch (DomainException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public DomainException addItemOutOfStock() {
+        try {
+            cart.addItem(outOfStockProduct, Quantity.of(1));
+            return null;
+        } catch (DomainException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public AddItemResult tryAddItemOutOfStock() {
+        return cart.tryAddItem(outOfStockProduct, Quantity.of(1));
+    }
+}
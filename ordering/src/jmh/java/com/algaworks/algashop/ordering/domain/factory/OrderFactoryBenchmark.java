@@ -0,0 +1,38 @@
+package com.algaworks.algashop.ordering.domain.factory;
+
+import com.algaworks.algashop.ordering.domain.BenchmarkFixtures;
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.PaymentMethod;
+import com.algaworks.algashop.ordering.domain.valueobject.Billing;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.Shipping;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderFactoryBenchmark {
+
+    private CustomerId customerId;
+    private Shipping shipping;
+    private Billing billing;
+    private Product product;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        customerId = new CustomerId();
+        shipping = BenchmarkFixtures.aShipping();
+        billing = BenchmarkFixtures.aBilling();
+        product = BenchmarkFixtures.aProduct(0);
+    }
+
+    @Benchmark
+    public Order filled() {
+        return OrderFactory.filled(customerId, shipping, billing, PaymentMethod.GATEWAY_BALANCE,
+                product, Quantity.of(1));
+    }
+}
@@ -0,0 +1,72 @@
+package com.algaworks.algashop.ordering.domain.service;
+
+import com.algaworks.algashop.ordering.domain.BenchmarkFixtures;
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.PaymentMethod;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartItem;
+import com.algaworks.algashop.ordering.domain.valueobject.Billing;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.Shipping;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CheckoutServiceBenchmark {
+
+    @Param({"10", "100"})
+    private int itemCount;
+
+    private Product[] products;
+    private Map<ProductId, Product> currentProducts;
+    private Billing billing;
+    private Shipping shipping;
+    private CheckoutService checkoutService;
+    private ShoppingCart cart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        products = BenchmarkFixtures.products(itemCount);
+        currentProducts = new HashMap<>();
+        for (Product product : products) {
+            currentProducts.put(product.id(), product);
+        }
+        billing = BenchmarkFixtures.aBilling();
+        shipping = BenchmarkFixtures.aShipping();
+        checkoutService = new CheckoutService();
+    }
+
+    @Setup(Level.Invocation)
+    public void fillCart() {
+        cart = ShoppingCart.startShopping(new CustomerId());
+        for (Product product : products) {
+            cart.addItem(product, Quantity.of(2));
+        }
+    }
+
+    @Benchmark
+    public Order checkoutService() {
+        return checkoutService.checkout(cart, currentProducts, billing, shipping, PaymentMethod.CREDIT_CARD);
+    }
+
+    @Benchmark
+    public Order naiveComposition() {
+        Order order = Order.draft(cart.customerId());
+        order.changeBilling(billing);
+        order.changeShipping(shipping);
+        order.changePaymentMethod(PaymentMethod.CREDIT_CARD);
+        for (ShoppingCartItem item : cart.items()) {
+            order.addItem(currentProducts.get(item.productId()), item.quantity());
+        }
+        cart.empty();
+        return order;
+    }
+}
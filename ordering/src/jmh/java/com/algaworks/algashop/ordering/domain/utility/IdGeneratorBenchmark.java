@@ -0,0 +1,37 @@
+package com.algaworks.algashop.ordering.domain.utility;
+
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.TimeBasedEpochRandomGenerator;
+import io.hypersistence.tsid.TSID;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdGeneratorBenchmark {
+
+    private final TimeBasedEpochRandomGenerator sharedUuidGenerator = Generators.timeBasedEpochRandomGenerator();
+
+    @Benchmark
+    public TSID generateTSID() {
+        return IdGenerator.generateTSID();
+    }
+
+    @Benchmark
+    public TSID sharedTsidFactoryBaseline() {
+        return TSID.Factory.INSTANCE.generate();
+    }
+
+    @Benchmark
+    public UUID generateTimeBasedUUID() {
+        return IdGenerator.generateTimeBasedUUID();
+    }
+
+    @Benchmark
+    public UUID sharedUuidGeneratorBaseline() {
+        return sharedUuidGenerator.generate();
+    }
+}
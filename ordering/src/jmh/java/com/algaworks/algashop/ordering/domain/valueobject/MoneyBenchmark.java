@@ -0,0 +1,67 @@
+package com.algaworks.algashop.ordering.domain.valueobject;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyBenchmark {
+
+    @Param({"100"})
+    private int valueCount;
+
+    private Money[] values;
+    private Quantity quantity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = new Money[valueCount];
+        for (int i = 0; i < valueCount; i++) {
+            values[i] = new Money(i + ".99");
+        }
+        quantity = Quantity.of(3);
+    }
+
+    @Benchmark
+    public Money add() {
+        Money total = Money.ZERO;
+        for (Money value : values) {
+            total = total.add(value);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money multiply() {
+        Money last = Money.ZERO;
+        for (Money value : values) {
+            last = value.multiply(quantity);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public Money accumulate() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        for (Money value : values) {
+            accumulator.add(value);
+        }
+        return accumulator.toMoney();
+    }
+
+    @Benchmark
+    public int compare() {
+        int greater = 0;
+        for (int i = 1; i < values.length; i++) {
+            greater += values[i].compareTo(values[i - 1]);
+        }
+        return greater;
+    }
+
+    @Benchmark
+    public Money divide() {
+        return values[valueCount - 1].divide(values[1]);
+    }
+}
@@ -0,0 +1,75 @@
+package com.algaworks.algashop.ordering.infrastructure.codec;
+
+import com.algaworks.algashop.ordering.domain.BenchmarkFixtures;
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.PaymentMethod;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderBinaryCodecBenchmark {
+
+    @Param({"3", "100"})
+    private int itemCount;
+
+    private final OrderBinaryCodec codec = new OrderBinaryCodec();
+    private ObjectMapper objectMapper;
+    private Order order;
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        order = Order.draft(new CustomerId());
+        order.changeBilling(BenchmarkFixtures.aBilling());
+        order.changeShipping(BenchmarkFixtures.aShipping());
+        order.changePaymentMethod(PaymentMethod.CREDIT_CARD);
+        for (Product product : BenchmarkFixtures.products(itemCount)) {
+            order.addItem(product, Quantity.of(2));
+        }
+        order.place();
+        order.pullDomainEvents();
+
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+
+        binary = codec.encode(order);
+        json = objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return codec.encode(order);
+    }
+
+    @Benchmark
+    public Order binaryDecode() {
+        return codec.decode(binary);
+    }
+
+    @Benchmark
+    public byte[] jacksonEncode() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public JsonNode jacksonParse() throws IOException {
+        return objectMapper.readTree(json);
+    }
+}
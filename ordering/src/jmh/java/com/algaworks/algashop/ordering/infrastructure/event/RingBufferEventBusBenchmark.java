@@ -0,0 +1,123 @@
+package com.algaworks.algashop.ordering.infrastructure.event;
+
+import com.algaworks.algashop.ordering.domain.event.DomainEvent;
+import com.algaworks.algashop.ordering.domain.event.OrderPlacedEvent;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RingBufferEventBusBenchmark {
+
+    private static final int CAPACITY = 65_536;
+    private static final int BATCH_SIZE = 16;
+
+    @State(Scope.Benchmark)
+    public static class Bus {
+
+        RingBufferEventBus eventBus;
+        AtomicLong consumed;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            consumed = new AtomicLong();
+            eventBus = new RingBufferEventBus(CAPACITY);
+            eventBus.subscribe((event, sequence, endOfBatch) -> {
+                if (endOfBatch) {
+                    consumed.lazySet(sequence + 1);
+                }
+            });
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            eventBus.close();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Queue {
+
+        BlockingQueue<DomainEvent> queue;
+        Thread consumer;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            queue = new ArrayBlockingQueue<>(CAPACITY);
+            consumer = Thread.ofPlatform().daemon().start(() -> {
+                List<DomainEvent> drained = new ArrayList<>(CAPACITY);
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        drained.add(queue.take());
+                        queue.drainTo(drained);
+                        drained.clear();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws InterruptedException {
+            consumer.interrupt();
+            consumer.join();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Events {
+
+        DomainEvent event;
+        List<DomainEvent> batch;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            event = new OrderPlacedEvent(new OrderId(), new CustomerId(), OffsetDateTime.now());
+            batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                batch.add(new OrderPlacedEvent(new OrderId(), new CustomerId(), OffsetDateTime.now()));
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void ringBufferSingleProducer(Bus bus, Events events) {
+        bus.eventBus.publish(events.event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void ringBufferFourProducers(Bus bus, Events events) {
+        bus.eventBus.publish(events.event);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void ringBufferSingleProducerBatched(Bus bus, Events events) {
+        bus.eventBus.publishAll(events.batch);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void blockingQueueSingleProducer(Queue queue, Events events) throws InterruptedException {
+        queue.queue.put(events.event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void blockingQueueFourProducers(Queue queue, Events events) throws InterruptedException {
+        queue.queue.put(events.event);
+    }
+}
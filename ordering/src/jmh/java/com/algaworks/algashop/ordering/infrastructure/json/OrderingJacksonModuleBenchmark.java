@@ -0,0 +1,63 @@
+package com.algaworks.algashop.ordering.infrastructure.json;
+
+import com.algaworks.algashop.ordering.domain.BenchmarkFixtures;
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.PaymentMethod;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderingJacksonModuleBenchmark {
+
+    private static final int ITEM_COUNT = 100;
+
+    private ObjectMapper reflective;
+    private ObjectMapper withModule;
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        order = Order.draft(new CustomerId());
+        order.changeBilling(BenchmarkFixtures.aBilling());
+        order.changeShipping(BenchmarkFixtures.aShipping());
+        order.changePaymentMethod(PaymentMethod.CREDIT_CARD);
+        for (Product product : BenchmarkFixtures.products(ITEM_COUNT)) {
+            order.addItem(product, Quantity.of(2));
+        }
+        order.place();
+        order.pullDomainEvents();
+
+        reflective = objectMapper();
+        withModule = objectMapper().registerModule(new OrderingJacksonModule());
+    }
+
+    @Benchmark
+    public byte[] reflective() throws JsonProcessingException {
+        return reflective.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] withModule() throws JsonProcessingException {
+        return withModule.writeValueAsBytes(order);
+    }
+
+    private static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+    }
+}
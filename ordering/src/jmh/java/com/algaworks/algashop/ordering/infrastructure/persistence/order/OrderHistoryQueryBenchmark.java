@@ -0,0 +1,94 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.event.DomainEventPublisher;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderHistoryQueryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int OTHER_CUSTOMERS_ORDERS = 10_000;
+
+    @Param({"10", "100000"})
+    private int customerOrders;
+
+    private EmbeddedDatabase database;
+    private OrderHistoryQuery query;
+    private CustomerId customerId;
+    private OrderId middleCursor;
+    private OrderId lastPageCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        OrderJdbcRepository repository = new OrderJdbcRepository(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(database)),
+                DomainEventPublisher.DISCARDING);
+        query = new OrderHistoryQuery(jdbcTemplate);
+
+        customerId = new CustomerId();
+        List<OrderId> ids = new ArrayList<>(customerOrders);
+        List<Order> batch = new ArrayList<>();
+        for (int i = 0; i < customerOrders; i++) {
+            Order order = Order.draft(customerId);
+            ids.add(order.id());
+            batch.add(order);
+            if (i % 10 == 0) {
+                batch.add(Order.draft(new CustomerId()));
+            }
+            if (batch.size() >= 1_000) {
+                repository.addAll(batch);
+                batch.clear();
+            }
+        }
+        for (int i = 0; i < OTHER_CUSTOMERS_ORDERS; i++) {
+            batch.add(Order.draft(new CustomerId()));
+        }
+        repository.addAll(batch);
+
+        middleCursor = ids.get(ids.size() / 2);
+        lastPageCursor = ids.get(Math.min(PAGE_SIZE, ids.size() - 1));
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Optional<OrderId> firstPage(Blackhole blackhole) {
+        return query.forEach(customerId, null, PAGE_SIZE, blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<OrderId> middlePage(Blackhole blackhole) {
+        return query.forEach(customerId, middleCursor, PAGE_SIZE, blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<OrderId> lastPage(Blackhole blackhole) {
+        return query.forEach(customerId, lastPageCursor, PAGE_SIZE, blackhole::consume);
+    }
+}
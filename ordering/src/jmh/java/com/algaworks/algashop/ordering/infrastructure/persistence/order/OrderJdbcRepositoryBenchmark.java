@@ -0,0 +1,92 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.domain.BenchmarkFixtures;
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.PaymentMethod;
+import com.algaworks.algashop.ordering.domain.event.DomainEventPublisher;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderJdbcRepositoryBenchmark {
+
+    private static final int ORDER_COUNT = 10_000;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    private Product[] products;
+    private EmbeddedDatabase database;
+    private OrderJdbcRepository repository;
+    private List<Order> orders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        products = BenchmarkFixtures.products(ITEMS_PER_ORDER);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        repository = new OrderJdbcRepository(new JdbcTemplate(database),
+                new TransactionTemplate(new DataSourceTransactionManager(database)),
+                DomainEventPublisher.DISCARDING);
+
+        orders = new ArrayList<>(ORDER_COUNT);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.draft(new CustomerId());
+            order.changeBilling(BenchmarkFixtures.aBilling());
+            order.changeShipping(BenchmarkFixtures.aShipping());
+            order.changePaymentMethod(PaymentMethod.CREDIT_CARD);
+            for (Product product : products) {
+                order.addItem(product, Quantity.of(1));
+            }
+            orders.add(order);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void shutdown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public long addAllBatched() {
+        repository.addAll(orders);
+        return repository.count();
+    }
+
+    @Benchmark
+    public long addOneByOne() {
+        for (Order order : orders) {
+            repository.add(order);
+        }
+        return repository.count();
+    }
+
+    @Benchmark
+    public long resaveWithOneChangedItemPerOrder() {
+        repository.addAll(orders);
+        for (Order order : orders) {
+            order.changeItemQuantity(order.items().iterator().next().id(), Quantity.of(2));
+        }
+        repository.addAll(orders);
+        return repository.count();
+    }
+}
@@ -0,0 +1,71 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.orderlifecycle;
+
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderLifecycleLogBenchmark {
+
+    private static final OrderStatus[] TRANSITIONS = {
+            OrderStatus.PLACED, OrderStatus.PAID, OrderStatus.READY
+    };
+
+    @Param({"1048560", "67108848"})
+    private int segmentSize;
+
+    private Path directory;
+    private OrderLifecycleLog log;
+    private OrderLifecycleLogReader reader;
+    private OrderId[] orderIds;
+    private OffsetDateTime occurredAt;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        orderIds = new OrderId[1024];
+        for (int i = 0; i < orderIds.length; i++) {
+            orderIds[i] = new OrderId();
+        }
+        occurredAt = OffsetDateTime.now();
+    }
+
+    @Setup(Level.Iteration)
+    public void open() throws IOException {
+        directory = Files.createTempDirectory("order-lifecycle-bench");
+        log = new OrderLifecycleLog(directory, segmentSize);
+        reader = new OrderLifecycleLogReader(directory, segmentSize);
+    }
+
+    @TearDown(Level.Iteration)
+    public void close() throws IOException {
+        log.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void append() {
+        int i = next++;
+        log.append(orderIds[i & (orderIds.length - 1)], TRANSITIONS[i % TRANSITIONS.length], occurredAt);
+    }
+
+    @Benchmark
+    public int appendAndTail() {
+        int i = next++;
+        log.append(orderIds[i & (orderIds.length - 1)], TRANSITIONS[i % TRANSITIONS.length], occurredAt);
+        return reader.poll(entry -> {
+        }, 1);
+    }
+}
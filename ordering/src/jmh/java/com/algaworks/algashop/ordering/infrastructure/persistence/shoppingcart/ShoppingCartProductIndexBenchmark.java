@@ -0,0 +1,67 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShoppingCartProductIndexBenchmark {
+
+    private static final int CATALOG_SIZE = 10_000;
+    private static final int PRODUCTS_PER_CART = 3;
+    private static final int CHURN_PRODUCTS = 64;
+
+    @Param({"100000", "1000000"})
+    private int cartCount;
+
+    private ShoppingCartId[] carts;
+    private ProductId[] catalog;
+    private ProductId[] churnProducts;
+    private ShoppingCartProductIndex index;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        catalog = new ProductId[CATALOG_SIZE];
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            catalog[i] = new ProductId(new UUID(1L, i));
+        }
+        churnProducts = new ProductId[CHURN_PRODUCTS];
+        for (int i = 0; i < CHURN_PRODUCTS; i++) {
+            churnProducts[i] = new ProductId(new UUID(3L, i));
+        }
+        carts = new ShoppingCartId[cartCount];
+        for (int i = 0; i < cartCount; i++) {
+            carts[i] = new ShoppingCartId(new UUID(2L, i));
+        }
+
+        index = new ShoppingCartProductIndex();
+        for (ShoppingCartId cart : carts) {
+            for (int i = 0; i < PRODUCTS_PER_CART; i++) {
+                index.add(cart, catalog[random.nextInt(CATALOG_SIZE)]);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<ShoppingCartId> cartsContaining() {
+        return index.cartsContaining(catalog[random.nextInt(CATALOG_SIZE)]);
+    }
+
+    @Benchmark
+    public ShoppingCartProductIndex addAndRemove() {
+        ShoppingCartId cart = carts[random.nextInt(cartCount)];
+        ProductId product = churnProducts[random.nextInt(CHURN_PRODUCTS)];
+        index.add(cart, product);
+        index.remove(cart, product);
+        return index;
+    }
+}
@@ -0,0 +1,90 @@
+package com.algaworks.algashop.ordering.infrastructure.utility;
+
+import com.algaworks.algashop.ordering.domain.event.OrderPlacedEvent;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.algaworks.algashop.ordering.infrastructure.event.RingBufferEventBus;
+import com.algaworks.algashop.ordering.infrastructure.persistence.orderlifecycle.OrderLifecycleLog;
+import com.algaworks.algashop.ordering.infrastructure.persistence.orderlifecycle.OrderLifecycleLogHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final Duration DOWNSTREAM_LATENCY = Duration.ofMillis(20);
+
+    public enum ExecutionMode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private ExecutionMode mode;
+
+    @Param({"1000", "10000"})
+    private int concurrentRequests;
+
+    private Path directory;
+    private OrderLifecycleLog lifecycleLog;
+    private RingBufferEventBus eventBus;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("virtual-thread-load-bench");
+        lifecycleLog = new OrderLifecycleLog(directory, 67_108_848);
+        eventBus = new RingBufferEventBus(65_536);
+        eventBus.subscribe(new OrderLifecycleLogHandler(lifecycleLog));
+        executor = mode == ExecutionMode.VIRTUAL
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        executor.close();
+        eventBus.close();
+        lifecycleLog.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int placeOrders() throws InterruptedException, ExecutionException {
+        List<Future<OrderId>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            responses.add(executor.submit(this::handleRequest));
+        }
+        for (Future<OrderId> response : responses) {
+            response.get();
+        }
+        return responses.size();
+    }
+
+    private OrderId handleRequest() throws InterruptedException {
+        OrderId orderId = new OrderId();
+        CustomerId customerId = new CustomerId();
+        Thread.sleep(DOWNSTREAM_LATENCY);
+        eventBus.publish(new OrderPlacedEvent(orderId, customerId, OffsetDateTime.now()));
+        return orderId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.algaworks.algashop.ordering.domain.entity;
+
+import com.algaworks.algashop.ordering.domain.event.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public abstract class AbstractEventSourceEntity {
+
+    private List<DomainEvent> domainEvents;
+
+    protected void registerEvent(DomainEvent event) {
+        Objects.requireNonNull(event);
+        if (this.domainEvents == null) {
+            this.domainEvents = new ArrayList<>(4);
+        }
+        this.domainEvents.add(event);
+    }
+
+    public List<DomainEvent> domainEvents() {
+        return this.domainEvents == null ? List.of() : Collections.unmodifiableList(this.domainEvents);
+    }
+
+    public List<DomainEvent> pullDomainEvents() {
+        List<DomainEvent> events = this.domainEvents;
+        this.domainEvents = null;
+        return events == null ? List.of() : events;
+    }
+}
@@ -0,0 +1,31 @@
+package com.algaworks.algashop.ordering.domain.entity;
+
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+
+import java.util.Objects;
+
+public sealed interface AddItemResult {
+
+    Added ADDED = new Added();
+
+    default boolean isAdded() {
+        return this instanceof Added;
+    }
+
+    record Added() implements AddItemResult {
+    }
+
+    record ProductOutOfStock(ProductId productId) implements AddItemResult {
+        public ProductOutOfStock {
+            Objects.requireNonNull(productId);
+        }
+    }
+
+    record OrderCannotBeEdited(OrderId orderId, OrderStatus status) implements AddItemResult {
+        public OrderCannotBeEdited {
+            Objects.requireNonNull(orderId);
+            Objects.requireNonNull(status);
+        }
+    }
+}
@@ -1,21 +1,19 @@
 package com.algaworks.algashop.ordering.domain.entity;
 
+import com.algaworks.algashop.ordering.domain.event.*;
 import com.algaworks.algashop.ordering.domain.exception.*;
 import com.algaworks.algashop.ordering.domain.valueobject.*;
 import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
 import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
 import com.algaworks.algashop.ordering.domain.valueobject.id.OrderItemId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
 import lombok.Builder;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 
-public class Order {
+public class Order extends AbstractEventSourceEntity {
 
     private OrderId id;
     private CustomerId customerId;
@@ -34,7 +32,8 @@ public class Order {
     private OrderStatus status;
     private PaymentMethod paymentMethod;
 
-    private Set<OrderItem> items;
+    private Map<OrderItemId, OrderItem> items;
+    private Map<ProductId, Set<OrderItemId>> itemIdsByProduct;
 
     @Builder(builderClassName = "ExistingOrderBuilder", builderMethodName = "existing")
     public Order(OrderId id, CustomerId customerId,
@@ -84,40 +83,130 @@ public class Order {
 
         product.checkOutOfStock();
 
-        OrderItem orderItem = OrderItem.brandNew()
-                .orderId(this.id())
-                .quantity(quantity)
-                .product(product)
-                .build();
+        this.appendItem(product, quantity);
+    }
 
-        if (this.items == null) {
-            this.items = new HashSet<>();
+    public AddItemResult tryAddItem(Product product, Quantity quantity) {
+        Objects.requireNonNull(product);
+        Objects.requireNonNull(quantity);
+        if (!this.isDraft()) {
+            return new AddItemResult.OrderCannotBeEdited(this.id(), this.status());
         }
+        if (product.isOutOfStock()) {
+            return new AddItemResult.ProductOutOfStock(product.id());
+        }
+
+        this.appendItem(product, quantity);
+        return AddItemResult.ADDED;
+    }
 
-        this.items.add(orderItem);
+    public void addItems(Map<Product, Quantity> productQuantities) {
+        Objects.requireNonNull(productQuantities);
+        this.verifyIfChangeable();
 
-        this.recalculateTotals();
+        productQuantities.forEach((product, quantity) -> {
+            Objects.requireNonNull(product);
+            Objects.requireNonNull(quantity);
+            product.checkOutOfStock();
+        });
+
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        OffsetDateTime now = OffsetDateTime.now();
+        productQuantities.forEach((product, quantity) -> {
+            OrderItem orderItem = OrderItem.brandNew()
+                    .orderId(this.id())
+                    .quantity(quantity)
+                    .product(product)
+                    .build();
+            this.insertItem(orderItem);
+            accumulator.add(orderItem.totalAmount(), orderItem.quantity());
+            this.registerItemAdded(orderItem, now);
+        });
+
+        this.setTotalAmount(this.totalAmount().add(accumulator.toMoney()));
+        this.setTotalItems(this.totalItems().add(accumulator.toQuantity()));
+
+        this.verifyTotals();
+    }
+
+    public void addItemsFrom(ShoppingCart shoppingCart, Map<ProductId, Product> currentProducts) {
+        Objects.requireNonNull(shoppingCart);
+        Objects.requireNonNull(currentProducts);
+        this.verifyIfChangeable();
+
+        boolean pricesMatch = true;
+        for (ShoppingCartItem shoppingCartItem : shoppingCart.items()) {
+            Product product = currentProducts.get(shoppingCartItem.productId());
+            if (product == null) {
+                throw new ProductOutOfStockException(shoppingCartItem.productId());
+            }
+            product.checkOutOfStock();
+            pricesMatch &= product.price().equals(shoppingCartItem.price());
+        }
+
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        OffsetDateTime now = OffsetDateTime.now();
+        for (ShoppingCartItem shoppingCartItem : shoppingCart.items()) {
+            Product product = currentProducts.get(shoppingCartItem.productId());
+            OrderItem orderItem;
+            if (product.price().equals(shoppingCartItem.price())) {
+                orderItem = OrderItem.existing()
+                        .id(new OrderItemId())
+                        .orderId(this.id())
+                        .productId(shoppingCartItem.productId())
+                        .productName(shoppingCartItem.productName())
+                        .price(shoppingCartItem.price())
+                        .quantity(shoppingCartItem.quantity())
+                        .totalAmount(shoppingCartItem.totalAmount())
+                        .build();
+            } else {
+                orderItem = OrderItem.brandNew()
+                        .orderId(this.id())
+                        .quantity(shoppingCartItem.quantity())
+                        .product(product)
+                        .build();
+            }
+            this.insertItem(orderItem);
+            if (!pricesMatch) {
+                accumulator.add(orderItem.totalAmount(), orderItem.quantity());
+            }
+            this.registerItemAdded(orderItem, now);
+        }
+
+        if (pricesMatch) {
+            this.setTotalAmount(this.totalAmount().add(shoppingCart.totalAmount()));
+            this.setTotalItems(this.totalItems().add(shoppingCart.totalItems()));
+        } else {
+            this.setTotalAmount(this.totalAmount().add(accumulator.toMoney()));
+            this.setTotalItems(this.totalItems().add(accumulator.toQuantity()));
+        }
+
+        this.verifyTotals();
     }
 
     public void place() {
         this.verifyIfCanChangeToPlaced();
         this.changeStatus(OrderStatus.PLACED);
         this.setPlacedAt(OffsetDateTime.now());
+        this.registerEvent(new OrderPlacedEvent(this.id(), this.customerId(), this.placedAt()));
     }
 
     public void markAsPaid() {
         this.changeStatus(OrderStatus.PAID);
         this.setPaidAt(OffsetDateTime.now());
+        this.registerEvent(new OrderPaidEvent(this.id(), this.customerId(), this.paidAt()));
     }
 
     public void markAsReady(){
         this.changeStatus(OrderStatus.READY);
         this.setReadyAt(OffsetDateTime.now());
+        this.registerEvent(new OrderReadyEvent(this.id(), this.customerId(), this.readyAt()));
     }
 
     public void cancel(){
         this.changeStatus(OrderStatus.CANCELED);
         this.setCanceledAt(OffsetDateTime.now());
+        this.registerEvent(new OrderCanceledEvent(this.id(), this.customerId(), this.canceledAt()));
     }
 
     public void changePaymentMethod(PaymentMethod paymentMethod) {
@@ -140,7 +229,13 @@ public class Order {
             throw new OrderInvalidShippingDeliveryDateException(this.id());
         }
 
+        if (this.shipping() != null) {
+            this.setTotalAmount(this.totalAmount().subtract(this.shipping().cost()));
+        }
+        this.setTotalAmount(this.totalAmount().add(newShipping.cost()));
         this.setShipping(newShipping);
+
+        this.verifyTotals();
     }
 
     public void changeItemQuantity(OrderItemId orderItemId, Quantity quantity) {
@@ -149,9 +244,13 @@ public class Order {
         this.verifyIfChangeable();
 
         OrderItem orderItem = this.findOrderItem(orderItemId);
+        this.subtractFromTotals(orderItem);
         orderItem.changeQuantity(quantity);
+        this.addToTotals(orderItem);
 
-        this.recalculateTotals();
+        this.verifyTotals();
+        this.registerEvent(new OrderItemQuantityChangedEvent(
+                this.id(), orderItemId, orderItem.quantity(), OffsetDateTime.now()));
     }
 
     public void removeItem(OrderItemId orderItemId){
@@ -159,9 +258,17 @@ public class Order {
         verifyIfChangeable();
 
         OrderItem orderItem = findOrderItem(orderItemId);
-        this.items.remove(orderItem);
+        this.deleteItem(orderItem);
+        this.subtractFromTotals(orderItem);
+
+        this.verifyTotals();
+        this.registerEvent(new OrderItemRemovedEvent(
+                this.id(), orderItemId, orderItem.productId(), OffsetDateTime.now()));
+    }
 
-        recalculateTotals();
+    public boolean containsProduct(ProductId productId) {
+        Objects.requireNonNull(productId);
+        return this.itemIdsByProduct.containsKey(productId);
     }
 
     public boolean isDraft() {
@@ -229,27 +336,59 @@ public class Order {
     }
 
     public Set<OrderItem> items() {
-        return Collections.unmodifiableSet(this.items);
+        return new OrderItemsView();
     }
 
-    private void recalculateTotals() {
-        BigDecimal totalItemsAmount = this.items().stream().map(i -> i.totalAmount().value())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private void appendItem(Product product, Quantity quantity) {
+        OrderItem orderItem = OrderItem.brandNew()
+                .orderId(this.id())
+                .quantity(quantity)
+                .product(product)
+                .build();
 
-        Integer totalItemsQuantity = this.items().stream().map(i -> i.quantity().value())
-                .reduce(0, Integer::sum);
+        this.insertItem(orderItem);
+        this.addToTotals(orderItem);
 
-        BigDecimal shippingCost;
-        if(this.shipping() == null) {
-            shippingCost = BigDecimal.ZERO;
-        } else {
-            shippingCost = this.shipping().cost().value();
+        this.verifyTotals();
+        this.registerItemAdded(orderItem, OffsetDateTime.now());
+    }
+
+    private void registerItemAdded(OrderItem orderItem, OffsetDateTime occurredAt) {
+        this.registerEvent(new OrderItemAddedEvent(
+                this.id(), orderItem.id(), orderItem.productId(), orderItem.quantity(), occurredAt));
+    }
+
+    private void addToTotals(OrderItem orderItem) {
+        this.setTotalAmount(this.totalAmount().add(orderItem.totalAmount()));
+        this.setTotalItems(this.totalItems().add(orderItem.quantity()));
+    }
+
+    private void subtractFromTotals(OrderItem orderItem) {
+        this.setTotalAmount(this.totalAmount().subtract(orderItem.totalAmount()));
+        this.setTotalItems(this.totalItems().subtract(orderItem.quantity()));
+    }
+
+    private void verifyTotals() {
+        assert this.totalAmount().equals(this.calculateTotalAmount())
+                && this.totalItems().equals(this.calculateTotalItems())
+                : "Order " + this.id() + " running totals diverged from a full recalculation";
+    }
+
+    private Money calculateTotalAmount() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        this.items.values().forEach(i -> accumulator.add(i.totalAmount()));
+
+        if (this.shipping() != null) {
+            accumulator.add(this.shipping().cost());
         }
 
-        BigDecimal total = totalItemsAmount.add(shippingCost);
+        return accumulator.toMoney();
+    }
 
-        this.setTotalAmount(new Money(total));
-        this.setTotalItems(new Quantity(totalItemsQuantity));
+    private Quantity calculateTotalItems() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        this.items.values().forEach(i -> accumulator.add(i.quantity()));
+        return accumulator.toQuantity();
     }
 
     private void changeStatus(OrderStatus newStatus) {
@@ -283,10 +422,27 @@ public class Order {
 
     private OrderItem findOrderItem(OrderItemId orderItemId) {
         Objects.requireNonNull(orderItemId);
-        return this.items().stream()
-                .filter(i -> i.id().equals(orderItemId))
-                .findFirst()
-                .orElseThrow(()-> new OrderDoesNotContainOrderItemException(this.id(), orderItemId));
+        OrderItem orderItem = this.items.get(orderItemId);
+        if (orderItem == null) {
+            throw new OrderDoesNotContainOrderItemException(this.id(), orderItemId);
+        }
+        return orderItem;
+    }
+
+    private void insertItem(OrderItem orderItem) {
+        this.items.put(orderItem.id(), orderItem);
+        this.itemIdsByProduct
+                .computeIfAbsent(orderItem.productId(), productId -> new LinkedHashSet<>())
+                .add(orderItem.id());
+    }
+
+    private void deleteItem(OrderItem orderItem) {
+        this.items.remove(orderItem.id());
+        Set<OrderItemId> productItemIds = this.itemIdsByProduct.get(orderItem.productId());
+        productItemIds.remove(orderItem.id());
+        if (productItemIds.isEmpty()) {
+            this.itemIdsByProduct.remove(orderItem.productId());
+        }
     }
 
     private void setId(OrderId id) {
@@ -344,7 +500,27 @@ public class Order {
 
     private void setItems(Set<OrderItem> items) {
         Objects.requireNonNull(items);
-        this.items = items;
+        this.items = new LinkedHashMap<>();
+        this.itemIdsByProduct = new HashMap<>();
+        items.forEach(this::insertItem);
+    }
+
+    private class OrderItemsView extends AbstractSet<OrderItem> {
+
+        @Override
+        public Iterator<OrderItem> iterator() {
+            return Collections.unmodifiableCollection(items.values()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof OrderItem orderItem && orderItem.equals(items.get(orderItem.id()));
+        }
     }
 
     @Override
@@ -1,7 +1,9 @@
 package com.algaworks.algashop.ordering.domain.entity;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
 
 public enum OrderStatus {
     DRAFT,
@@ -10,18 +12,41 @@ public enum OrderStatus {
     READY(PAID),
     CANCELED(PAID, READY, PLACED, DRAFT);
 
+    static {
+        for (OrderStatus status : values()) {
+            for (OrderStatus previousStatus : status.previousStatuses) {
+                previousStatus.allowedTransitionsMask |= 1 << status.ordinal();
+            }
+        }
+        for (OrderStatus status : values()) {
+            EnumSet<OrderStatus> allowedTransitions = EnumSet.noneOf(OrderStatus.class);
+            for (OrderStatus candidate : values()) {
+                if (status.canChangeTo(candidate)) {
+                    allowedTransitions.add(candidate);
+                }
+            }
+            status.allowedTransitions = Collections.unmodifiableSet(allowedTransitions);
+        }
+    }
+
     OrderStatus(OrderStatus... previousStatuses) {
-        this.previousStatuses = Arrays.asList(previousStatuses);
+        this.previousStatuses = previousStatuses;
     }
 
-    private final List<OrderStatus> previousStatuses;
+    private final OrderStatus[] previousStatuses;
+    private int allowedTransitionsMask;
+    private Set<OrderStatus> allowedTransitions;
 
     public boolean canChangeTo(OrderStatus newStatus) {
-        OrderStatus currentStatus = this;
-        return newStatus.previousStatuses.contains(currentStatus);
+        Objects.requireNonNull(newStatus);
+        return (this.allowedTransitionsMask & (1 << newStatus.ordinal())) != 0;
     }
 
     public boolean canNotChangeTo(OrderStatus newStatus) {
         return !canChangeTo(newStatus);
     }
-}
\ No newline at end of file
+
+    public Set<OrderStatus> allowedTransitions() {
+        return allowedTransitions;
+    }
+}
@@ -1,8 +1,13 @@
 package com.algaworks.algashop.ordering.domain.entity;
 
+import com.algaworks.algashop.ordering.domain.event.ShoppingCartCreatedEvent;
+import com.algaworks.algashop.ordering.domain.event.ShoppingCartEmptiedEvent;
+import com.algaworks.algashop.ordering.domain.event.ShoppingCartItemAddedEvent;
+import com.algaworks.algashop.ordering.domain.event.ShoppingCartItemRemovedEvent;
 import com.algaworks.algashop.ordering.domain.exception.ShoppingCartDoesNotContainItemException;
 import com.algaworks.algashop.ordering.domain.exception.ShoppingCartDoesNotContainProductException;
 import com.algaworks.algashop.ordering.domain.valueobject.Money;
+import com.algaworks.algashop.ordering.domain.valueobject.MoneyAccumulator;
 import com.algaworks.algashop.ordering.domain.valueobject.Product;
 import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
 import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
@@ -11,18 +16,19 @@ import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
 import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartItemId;
 import lombok.Builder;
 
-import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.*;
 
-public class ShoppingCart {
+public class ShoppingCart extends AbstractEventSourceEntity {
 
     private ShoppingCartId id;
     private CustomerId customerId;
     private Money totalAmount;
     private Quantity totalItems;
     private OffsetDateTime createdAt;
-    private Set<ShoppingCartItem> items;
+    private Map<ShoppingCartItemId, ShoppingCartItem> items;
+    private Map<ProductId, ShoppingCartItem> itemsByProduct;
+    private int unavailableItemsCount;
 
     @Builder(builderClassName = "ExistingShoppingCartBuilder", builderMethodName = "existing")
     public ShoppingCart(ShoppingCartId id, CustomerId customerId, Money totalAmount, Quantity totalItems,
@@ -36,25 +42,34 @@ public class ShoppingCart {
     }
 
     public static ShoppingCart startShopping(CustomerId customerId) {
-        return new ShoppingCart(
+        ShoppingCart shoppingCart = new ShoppingCart(
                 new ShoppingCartId(),
                 customerId,
                 Money.ZERO,
                 Quantity.ZERO,
                 OffsetDateTime.now(),
                 new HashSet<>());
+        shoppingCart.registerEvent(new ShoppingCartCreatedEvent(
+                shoppingCart.id(), shoppingCart.customerId(), shoppingCart.createdAt()));
+        return shoppingCart;
     }
 
     public void empty(){
        items.clear();
+       itemsByProduct.clear();
+       unavailableItemsCount = 0;
        totalAmount = Money.ZERO;
        totalItems = Quantity.ZERO;
+       registerEvent(new ShoppingCartEmptiedEvent(id, OffsetDateTime.now()));
     }
 
     public void removeItem(ShoppingCartItemId shoppingCartItemId) {
         ShoppingCartItem shoppingCartItem = this.findItem(shoppingCartItemId);
-        this.items.remove(shoppingCartItem);
-        this.recalculateTotals();
+        this.deleteItem(shoppingCartItem);
+        this.subtractFromTotals(shoppingCartItem);
+        this.verifyTotals();
+        this.registerEvent(new ShoppingCartItemRemovedEvent(
+                this.id(), shoppingCartItem.productId(), OffsetDateTime.now()));
     }
 
     public void addItem(Product product, Quantity quantity) {
@@ -63,57 +78,56 @@ public class ShoppingCart {
 
         product.checkOutOfStock();
 
-        ShoppingCartItem shoppingCartItem = ShoppingCartItem.brandNew()
-                .shoppingCartId(this.id())
-                .productId(product.id())
-                .productName(product.name())
-                .price(product.price())
-                .available(product.inStock())
-                .quantity(quantity)
-                .build();
+        this.putItem(product, quantity);
+    }
 
-        searchItemByProduct(product.id())
-                .ifPresentOrElse(i -> updateItem(i, product, quantity), () -> insertItem(shoppingCartItem));
+    public AddItemResult tryAddItem(Product product, Quantity quantity) {
+        Objects.requireNonNull(product);
+        Objects.requireNonNull(quantity);
+        if (product.isOutOfStock()) {
+            return new AddItemResult.ProductOutOfStock(product.id());
+        }
 
-        this.recalculateTotals();
+        this.putItem(product, quantity);
+        return AddItemResult.ADDED;
     }
 
     public void changeItemQuantity(ShoppingCartItemId shoppingCartItemId, Quantity quantity) {
         ShoppingCartItem shoppingCartItem = this.findItem(shoppingCartItemId);
+        this.subtractFromTotals(shoppingCartItem);
         shoppingCartItem.changeQuantity(quantity);
-        this.recalculateTotals();
-    }
-
-    private void recalculateTotals() {
-        BigDecimal totalAmount = items.stream()
-                .map(i -> i.totalAmount().value())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        Integer totalItems = items.stream()
-                .map(i -> i.quantity().value())
-                .reduce(0, Integer::sum);
-
-        this.totalAmount = new Money(totalAmount);
-        this.totalItems = new Quantity(totalItems);
+        this.addToTotals(shoppingCartItem);
+        this.verifyTotals();
     }
 
     public void refreshItem(Product product) {
         ShoppingCartItem shoppingCartItem = this.findItem(product.id());
-        shoppingCartItem.refresh(product);
-        this.recalculateTotals();
+        this.subtractFromTotals(shoppingCartItem);
+        this.refreshAvailability(shoppingCartItem, product);
+        this.addToTotals(shoppingCartItem);
+        this.verifyTotals();
+    }
+
+    public void refreshItems(Collection<Product> products) {
+        Objects.requireNonNull(products);
+        for (Product product : products) {
+            Objects.requireNonNull(product);
+            this.searchItemByProduct(product.id()).ifPresent(i -> {
+                this.subtractFromTotals(i);
+                this.refreshAvailability(i, product);
+                this.addToTotals(i);
+            });
+        }
+        this.verifyTotals();
     }
 
     public ShoppingCartItem findItem(ShoppingCartItemId shoppingCartItemId){
-        return this.items.stream().filter(
-                i -> i.id().equals(shoppingCartItemId))
-                .findFirst()
+        return Optional.ofNullable(this.items.get(shoppingCartItemId))
                 .orElseThrow(() -> new ShoppingCartDoesNotContainItemException(this.id(), shoppingCartItemId));
     }
 
     public ShoppingCartItem findItem(ProductId productId){
-        return this.items.stream().filter(
-                        i -> i.productId().equals(productId))
-                .findFirst()
+        return this.searchItemByProduct(productId)
                 .orElseThrow(() -> new ShoppingCartDoesNotContainProductException(this.id(), productId));
     }
 
@@ -122,7 +136,7 @@ public class ShoppingCart {
     }
 
     public boolean containsUnavailableItems() {
-        return items.stream().anyMatch(i -> !i.isAvailable());
+        return unavailableItemsCount > 0;
     }
 
 
@@ -147,23 +161,94 @@ public class ShoppingCart {
     }
 
     public Set<ShoppingCartItem> items() {
-        return Collections.unmodifiableSet(items);
+        return new ShoppingCartItemsView();
     }
 
     private Optional<ShoppingCartItem> searchItemByProduct(ProductId productId) {
         Objects.requireNonNull(productId);
-        return this.items.stream()
-                .filter(i -> i.productId().equals(productId))
-                .findFirst();
+        return Optional.ofNullable(this.itemsByProduct.get(productId));
+    }
+
+    private void putItem(Product product, Quantity quantity) {
+        ShoppingCartItem existingItem = this.itemsByProduct.get(product.id());
+        if (existingItem != null) {
+            this.subtractFromTotals(existingItem);
+            this.updateItem(existingItem, product, quantity);
+            this.addToTotals(existingItem);
+        } else {
+            ShoppingCartItem shoppingCartItem = ShoppingCartItem.brandNew()
+                    .shoppingCartId(this.id())
+                    .productId(product.id())
+                    .productName(product.name())
+                    .price(product.price())
+                    .available(product.inStock())
+                    .quantity(quantity)
+                    .build();
+            this.insertItem(shoppingCartItem);
+            this.addToTotals(shoppingCartItem);
+        }
+
+        this.verifyTotals();
+        this.registerEvent(new ShoppingCartItemAddedEvent(this.id(), product.id(), quantity, OffsetDateTime.now()));
     }
 
     private void updateItem(ShoppingCartItem shoppingCartItem, Product product, Quantity quantity) {
-        shoppingCartItem.refresh(product);
+        this.refreshAvailability(shoppingCartItem, product);
         shoppingCartItem.changeQuantity(shoppingCartItem.quantity().add(quantity));
     }
 
+    private void addToTotals(ShoppingCartItem shoppingCartItem) {
+        this.setTotalAmount(this.totalAmount().add(shoppingCartItem.totalAmount()));
+        this.setTotalItems(this.totalItems().add(shoppingCartItem.quantity()));
+    }
+
+    private void subtractFromTotals(ShoppingCartItem shoppingCartItem) {
+        this.setTotalAmount(this.totalAmount().subtract(shoppingCartItem.totalAmount()));
+        this.setTotalItems(this.totalItems().subtract(shoppingCartItem.quantity()));
+    }
+
+    private void verifyTotals() {
+        assert this.totalAmount().equals(this.calculateTotalAmount())
+                && this.totalItems().equals(this.calculateTotalItems())
+                : "Shopping cart " + this.id() + " running totals diverged from a full recalculation";
+    }
+
+    private Money calculateTotalAmount() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        this.items.values().forEach(i -> accumulator.add(i.totalAmount()));
+        return accumulator.toMoney();
+    }
+
+    private Quantity calculateTotalItems() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        this.items.values().forEach(i -> accumulator.add(i.quantity()));
+        return accumulator.toQuantity();
+    }
+
+    private void refreshAvailability(ShoppingCartItem shoppingCartItem, Product product) {
+        boolean wasAvailable = shoppingCartItem.isAvailable();
+        shoppingCartItem.refresh(product);
+        if (wasAvailable && !shoppingCartItem.isAvailable()) {
+            this.unavailableItemsCount++;
+        } else if (!wasAvailable && shoppingCartItem.isAvailable()) {
+            this.unavailableItemsCount--;
+        }
+    }
+
     private void insertItem(ShoppingCartItem shoppingCartItem) {
-        this.items.add(shoppingCartItem);
+        this.items.put(shoppingCartItem.id(), shoppingCartItem);
+        this.itemsByProduct.put(shoppingCartItem.productId(), shoppingCartItem);
+        if (!shoppingCartItem.isAvailable()) {
+            this.unavailableItemsCount++;
+        }
+    }
+
+    private void deleteItem(ShoppingCartItem shoppingCartItem) {
+        this.items.remove(shoppingCartItem.id());
+        this.itemsByProduct.remove(shoppingCartItem.productId());
+        if (!shoppingCartItem.isAvailable()) {
+            this.unavailableItemsCount--;
+        }
     }
 
     private void setId(ShoppingCartId id) {
@@ -192,8 +277,30 @@ public class ShoppingCart {
     }
 
     private void setItems(Set<ShoppingCartItem> items) {
-        Objects.requireNonNull(createdAt);
-        this.items = items;
+        Objects.requireNonNull(items);
+        this.items = new LinkedHashMap<>();
+        this.itemsByProduct = new HashMap<>();
+        this.unavailableItemsCount = 0;
+        items.forEach(this::insertItem);
+    }
+
+    private class ShoppingCartItemsView extends AbstractSet<ShoppingCartItem> {
+
+        @Override
+        public Iterator<ShoppingCartItem> iterator() {
+            return Collections.unmodifiableCollection(items.values()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof ShoppingCartItem shoppingCartItem
+                    && shoppingCartItem.equals(items.get(shoppingCartItem.id()));
+        }
     }
 
     @Override
@@ -0,0 +1,8 @@
+package com.algaworks.algashop.ordering.domain.event;
+
+import java.time.OffsetDateTime;
+
+public interface DomainEvent {
+
+    OffsetDateTime occurredAt();
+}
@@ -0,0 +1,18 @@
+package com.algaworks.algashop.ordering.domain.event;
+
+import java.util.Collection;
+
+@FunctionalInterface
+public interface DomainEventPublisher {
+
+    DomainEventPublisher DISCARDING = event -> {
+    };
+
+    void publish(DomainEvent event);
+
+    default void publishAll(Collection<? extends DomainEvent> events) {
+        for (DomainEvent event : events) {
+            this.publish(event);
+        }
+    }
+}
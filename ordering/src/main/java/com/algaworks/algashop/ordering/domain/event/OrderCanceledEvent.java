@@ -0,0 +1,20 @@
+package com.algaworks.algashop.ordering.domain.event;
+
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public record OrderCanceledEvent(
+        OrderId orderId,
+        CustomerId customerId,
+        OffsetDateTime occurredAt
+) implements DomainEvent {
+
+    public OrderCanceledEvent {
+        Objects.requireNonNull(orderId);
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(occurredAt);
+    }
+}
@@ -0,0 +1,26 @@
+package com.algaworks.algashop.ordering.domain.event;
+
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderItemId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public record OrderItemAddedEvent(
+        OrderId orderId,
+        OrderItemId orderItemId,
+        ProductId productId,
+        Quantity quantity,
+        OffsetDateTime occurredAt
+) implements DomainEvent {
+
+    public OrderItemAddedEvent {
+        Objects.requireNonNull(orderId);
+        Objects.requireNonNull(orderItemId);
+        Objects.requireNonNull(productId);
+        Objects.requireNonNull(quantity);
+        Objects.requireNonNull(occurredAt);
+    }
+}
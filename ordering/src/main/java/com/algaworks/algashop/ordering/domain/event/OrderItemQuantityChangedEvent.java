@@ -0,0 +1,23 @@
+package com.algaworks.algashop.ordering.domain.event;
+
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderItemId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public record OrderItemQuantityChangedEvent(
+        OrderId orderId,
+        OrderItemId orderItemId,
+        Quantity quantity,
+        OffsetDateTime occurredAt
+) implements DomainEvent {
+
+    public OrderItemQuantityChangedEvent {
+        Objects.requireNonNull(orderId);
+        Objects.requireNonNull(orderItemId);
+        Objects.requireNonNull(quantity);
+        Objects.requireNonNull(occurredAt);
+    }
+}
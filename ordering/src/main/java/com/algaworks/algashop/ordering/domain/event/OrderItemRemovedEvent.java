@@ -0,0 +1,23 @@
+package com.algaworks.algashop.ordering.domain.event;
+
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderItemId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public record OrderItemRemovedEvent(
+        OrderId orderId,
+        OrderItemId orderItemId,
+        ProductId productId,
+        OffsetDateTime occurredAt
+) implements DomainEvent {
+
+    public OrderItemRemovedEvent {
+        Objects.requireNonNull(orderId);
+        Objects.requireNonNull(orderItemId);
+        Objects.requireNonNull(productId);
+        Objects.requireNonNull(occurredAt);
+    }
+}
@@ -0,0 +1,20 @@
+package com.algaworks.algashop.ordering.domain.event;
+
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public record ShoppingCartCreatedEvent(
+        ShoppingCartId shoppingCartId,
+        CustomerId customerId,
+        OffsetDateTime occurredAt
+) implements DomainEvent {
+
+    public ShoppingCartCreatedEvent {
+        Objects.requireNonNull(shoppingCartId);
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(occurredAt);
+    }
+}
@@ -0,0 +1,17 @@
+package com.algaworks.algashop.ordering.domain.event;
+
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public record ShoppingCartEmptiedEvent(
+        ShoppingCartId shoppingCartId,
+        OffsetDateTime occurredAt
+) implements DomainEvent {
+
+    public ShoppingCartEmptiedEvent {
+        Objects.requireNonNull(shoppingCartId);
+        Objects.requireNonNull(occurredAt);
+    }
+}
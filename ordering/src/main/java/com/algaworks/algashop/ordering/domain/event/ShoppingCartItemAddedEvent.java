@@ -0,0 +1,23 @@
+package com.algaworks.algashop.ordering.domain.event;
+
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public record ShoppingCartItemAddedEvent(
+        ShoppingCartId shoppingCartId,
+        ProductId productId,
+        Quantity quantity,
+        OffsetDateTime occurredAt
+) implements DomainEvent {
+
+    public ShoppingCartItemAddedEvent {
+        Objects.requireNonNull(shoppingCartId);
+        Objects.requireNonNull(productId);
+        Objects.requireNonNull(quantity);
+        Objects.requireNonNull(occurredAt);
+    }
+}
@@ -0,0 +1,20 @@
+package com.algaworks.algashop.ordering.domain.event;
+
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public record ShoppingCartItemRemovedEvent(
+        ShoppingCartId shoppingCartId,
+        ProductId productId,
+        OffsetDateTime occurredAt
+) implements DomainEvent {
+
+    public ShoppingCartItemRemovedEvent {
+        Objects.requireNonNull(shoppingCartId);
+        Objects.requireNonNull(productId);
+        Objects.requireNonNull(occurredAt);
+    }
+}
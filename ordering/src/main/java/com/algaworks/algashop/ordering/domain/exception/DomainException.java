@@ -1,12 +1,47 @@
 package com.algaworks.algashop.ordering.domain.exception;
 
+import java.util.Objects;
+
 public class DomainException extends RuntimeException {
 
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final String messageTemplate;
+    private final Object[] messageArguments;
+    private String message;
+
     public DomainException(String message, Throwable cause) {
         super(message, cause);
+        this.messageTemplate = null;
+        this.messageArguments = NO_ARGUMENTS;
     }
 
     public DomainException(String message) {
         super(message);
+        this.messageTemplate = null;
+        this.messageArguments = NO_ARGUMENTS;
+    }
+
+    protected DomainException(String messageTemplate, Object... messageArguments) {
+        this(true, messageTemplate, messageArguments);
+    }
+
+    DomainException(boolean writableStackTrace, String messageTemplate, Object... messageArguments) {
+        super(null, null, writableStackTrace, writableStackTrace);
+        this.messageTemplate = Objects.requireNonNull(messageTemplate);
+        this.messageArguments = messageArguments;
+    }
+
+    @Override
+    public String getMessage() {
+        if (this.messageTemplate == null) {
+            return super.getMessage();
+        }
+        String message = this.message;
+        if (message == null) {
+            message = String.format(this.messageTemplate, this.messageArguments);
+            this.message = message;
+        }
+        return message;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.algaworks.algashop.ordering.domain.exception;
+
+public abstract class DomainRejectionException extends DomainException {
+
+    static final String STACK_TRACES_PROPERTY = "algashop.domain.rejection.stack-traces";
+
+    private static final boolean STACK_TRACES = Boolean.getBoolean(STACK_TRACES_PROPERTY);
+
+    protected DomainRejectionException(String messageTemplate, Object... messageArguments) {
+        super(STACK_TRACES, messageTemplate, messageArguments);
+    }
+}
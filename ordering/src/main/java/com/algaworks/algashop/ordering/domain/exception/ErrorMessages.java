@@ -32,4 +32,8 @@ public class ErrorMessages {
 
     public static final String ERROR_SHOPPING_CART_DOES_NOT_CONTAIN_PRODUCT = "Shopping Cart %s does not contain product %s";
 
+    public static final String ERROR_SHOPPING_CART_CANNOT_PROCEED_TO_CHECKOUT_HAS_NO_ITEMS = "Shopping Cart %s cannot proceed to checkout, it has no items";
+
+    public static final String ERROR_SHOPPING_CART_CANNOT_PROCEED_TO_CHECKOUT_HAS_UNAVAILABLE_ITEMS = "Shopping Cart %s cannot proceed to checkout, it contains unavailable items";
+
 }
\ No newline at end of file
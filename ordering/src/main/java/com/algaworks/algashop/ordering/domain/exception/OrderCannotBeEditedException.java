@@ -5,8 +5,8 @@ import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
 
 import static com.algaworks.algashop.ordering.domain.exception.ErrorMessages.ERROR_ORDER_CANNOT_BE_EDITED;
 
-public class OrderCannotBeEditedException extends DomainException {
+public class OrderCannotBeEditedException extends DomainRejectionException {
     public OrderCannotBeEditedException(OrderId orderId, OrderStatus status) {
-        super(String.format(ERROR_ORDER_CANNOT_BE_EDITED, orderId, status));
+        super(ERROR_ORDER_CANNOT_BE_EDITED, orderId, status);
     }
 }
@@ -4,27 +4,25 @@ import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
 
 import static com.algaworks.algashop.ordering.domain.exception.ErrorMessages.*;
 
-public class OrderCannotBePlacedException extends DomainException {
+public class OrderCannotBePlacedException extends DomainRejectionException {
 
-    private OrderCannotBePlacedException(String message) {
-        super(message);
+    private OrderCannotBePlacedException(String messageTemplate, OrderId id) {
+        super(messageTemplate, id);
     }
 
     public static OrderCannotBePlacedException noItems(OrderId id) {
-        return new OrderCannotBePlacedException(
-                String.format(ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_ITEMS, id)
-        );
+        return new OrderCannotBePlacedException(ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_ITEMS, id);
     }
 
     public static OrderCannotBePlacedException noShippingInfo(OrderId id) {
-        return new OrderCannotBePlacedException(String.format(ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_SHIPPING_INFO, id));
+        return new OrderCannotBePlacedException(ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_SHIPPING_INFO, id);
     }
 
     public static OrderCannotBePlacedException noBillingInfo(OrderId id) {
-        return new OrderCannotBePlacedException(String.format(ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_BILLING_INFO, id));
+        return new OrderCannotBePlacedException(ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_BILLING_INFO, id);
     }
 
     public static OrderCannotBePlacedException noPaymentMethod(OrderId id) {
-        return new OrderCannotBePlacedException(String.format(ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_PAYMENT_METHOD, id));
+        return new OrderCannotBePlacedException(ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_PAYMENT_METHOD, id);
     }
 }
\ No newline at end of file
@@ -7,6 +7,6 @@ import static com.algaworks.algashop.ordering.domain.exception.ErrorMessages.ERR
 
 public class OrderDoesNotContainOrderItemException extends DomainException {
     public OrderDoesNotContainOrderItemException(OrderId id, OrderItemId orderItemId) {
-        super(String.format(ERROR_ORDER_DOES_NOT_CONTAIN_ITEM, id, orderItemId));
+        super(ERROR_ORDER_DOES_NOT_CONTAIN_ITEM, id, orderItemId);
     }
 }
\ No newline at end of file
@@ -6,6 +6,6 @@ import static com.algaworks.algashop.ordering.domain.exception.ErrorMessages.ERR
 
 public class OrderInvalidShippingDeliveryDateException extends DomainException  {
     public OrderInvalidShippingDeliveryDateException(OrderId id) {
-        super(String.format(ERROR_ORDER_DELIVERY_DATE_CANNOT_BE_IN_THE_PAST, id));
+        super(ERROR_ORDER_DELIVERY_DATE_CANNOT_BE_IN_THE_PAST, id);
     }
 }
@@ -5,9 +5,9 @@ import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
 
 import static com.algaworks.algashop.ordering.domain.exception.ErrorMessages.ERROR_ORDER_STATUS_CANNOT_BE_CHANGED;
 
-public class OrderStatusCannotBeChangedException extends DomainException {
+public class OrderStatusCannotBeChangedException extends DomainRejectionException {
 
     public OrderStatusCannotBeChangedException(OrderId id, OrderStatus status, OrderStatus newStatus) {
-        super(String.format(ERROR_ORDER_STATUS_CANNOT_BE_CHANGED, id, status, newStatus));
+        super(ERROR_ORDER_STATUS_CANNOT_BE_CHANGED, id, status, newStatus);
     }
 }
\ No newline at end of file
@@ -4,9 +4,9 @@ import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
 
 import static com.algaworks.algashop.ordering.domain.exception.ErrorMessages.ERROR_PRODUCT_IS_OUT_OF_STOCK;
 
-public class ProductOutOfStockException extends DomainException {
+public class ProductOutOfStockException extends DomainRejectionException {
 
     public ProductOutOfStockException(ProductId id) {
-        super(String.format(ERROR_PRODUCT_IS_OUT_OF_STOCK, id));
+        super(ERROR_PRODUCT_IS_OUT_OF_STOCK, id);
     }
 }
\ No newline at end of file
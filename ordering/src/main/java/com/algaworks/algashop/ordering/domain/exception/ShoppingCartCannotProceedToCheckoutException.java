@@ -0,0 +1,20 @@
+package com.algaworks.algashop.ordering.domain.exception;
+
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+
+import static com.algaworks.algashop.ordering.domain.exception.ErrorMessages.*;
+
+public class ShoppingCartCannotProceedToCheckoutException extends DomainRejectionException {
+
+    private ShoppingCartCannotProceedToCheckoutException(String messageTemplate, ShoppingCartId id) {
+        super(messageTemplate, id);
+    }
+
+    public static ShoppingCartCannotProceedToCheckoutException noItems(ShoppingCartId id) {
+        return new ShoppingCartCannotProceedToCheckoutException(ERROR_SHOPPING_CART_CANNOT_PROCEED_TO_CHECKOUT_HAS_NO_ITEMS, id);
+    }
+
+    public static ShoppingCartCannotProceedToCheckoutException unavailableItems(ShoppingCartId id) {
+        return new ShoppingCartCannotProceedToCheckoutException(ERROR_SHOPPING_CART_CANNOT_PROCEED_TO_CHECKOUT_HAS_UNAVAILABLE_ITEMS, id);
+    }
+}
@@ -7,6 +7,6 @@ import static com.algaworks.algashop.ordering.domain.exception.ErrorMessages.ERR
 
 public class ShoppingCartDoesNotContainItemException extends DomainException{
     public ShoppingCartDoesNotContainItemException(ShoppingCartId id, ShoppingCartItemId shoppingCartItemId) {
-        super(String.format(ERROR_SHOPPING_CART_DOES_NOT_CONTAIN_ITEM, id, shoppingCartItemId));
+        super(ERROR_SHOPPING_CART_DOES_NOT_CONTAIN_ITEM, id, shoppingCartItemId);
     }
 }
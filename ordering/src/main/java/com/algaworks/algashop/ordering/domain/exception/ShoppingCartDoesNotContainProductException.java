@@ -7,6 +7,6 @@ import static com.algaworks.algashop.ordering.domain.exception.ErrorMessages.ERR
 
 public class ShoppingCartDoesNotContainProductException extends DomainException {
     public ShoppingCartDoesNotContainProductException(ShoppingCartId id, ProductId productId) {
-        super(String.format(ERROR_SHOPPING_CART_DOES_NOT_CONTAIN_PRODUCT, id, productId));
+        super(ERROR_SHOPPING_CART_DOES_NOT_CONTAIN_PRODUCT, id, productId);
     }
 }
@@ -7,6 +7,6 @@ import static com.algaworks.algashop.ordering.domain.exception.ErrorMessages.ERR
 
 public class ShoppingCartItemIncompatibleProductException extends DomainException {
     public ShoppingCartItemIncompatibleProductException(ShoppingCartItemId id, ProductId productId) {
-        super(String.format(ERROR_SHOPPING_CART_ITEM_INCOMPATIBLE_PRODUCT, id, productId));
+        super(ERROR_SHOPPING_CART_ITEM_INCOMPATIBLE_PRODUCT, id, productId);
     }
 }
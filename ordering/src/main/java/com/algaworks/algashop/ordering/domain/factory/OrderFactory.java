@@ -8,6 +8,7 @@ import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
 import com.algaworks.algashop.ordering.domain.valueobject.Shipping;
 import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
 
+import java.util.Map;
 import java.util.Objects;
 
 public class OrderFactory {
@@ -41,4 +42,27 @@ public class OrderFactory {
         return order;
     }
 
+    public static Order filled(
+            CustomerId customerId,
+            Shipping shipping,
+            Billing billing,
+            PaymentMethod paymentMethod,
+            Map<Product, Quantity> productQuantities
+    ) {
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(shipping);
+        Objects.requireNonNull(billing);
+        Objects.requireNonNull(paymentMethod);
+        Objects.requireNonNull(productQuantities);
+
+        Order order = Order.draft(customerId);
+
+        order.changeBilling(billing);
+        order.changeShipping(shipping);
+        order.changePaymentMethod(paymentMethod);
+        order.addItems(productQuantities);
+
+        return order;
+    }
+
 }
\ No newline at end of file
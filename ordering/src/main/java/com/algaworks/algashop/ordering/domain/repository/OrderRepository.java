@@ -0,0 +1,11 @@
+package com.algaworks.algashop.ordering.domain.repository;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+
+import java.util.Collection;
+
+public interface OrderRepository extends Repository<Order, OrderId> {
+
+    void addAll(Collection<Order> orders);
+}
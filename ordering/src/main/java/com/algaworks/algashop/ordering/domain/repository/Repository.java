@@ -0,0 +1,14 @@
+package com.algaworks.algashop.ordering.domain.repository;
+
+import java.util.Optional;
+
+public interface Repository<T, ID> {
+
+    Optional<T> ofId(ID id);
+
+    boolean exists(ID id);
+
+    void add(T aggregateRoot);
+
+    long count();
+}
@@ -0,0 +1,7 @@
+package com.algaworks.algashop.ordering.domain.repository;
+
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+
+public interface ShoppingCartRepository extends Repository<ShoppingCart, ShoppingCartId> {
+}
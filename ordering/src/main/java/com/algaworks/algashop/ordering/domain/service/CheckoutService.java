@@ -0,0 +1,52 @@
+package com.algaworks.algashop.ordering.domain.service;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.PaymentMethod;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartItem;
+import com.algaworks.algashop.ordering.domain.exception.ShoppingCartCannotProceedToCheckoutException;
+import com.algaworks.algashop.ordering.domain.valueobject.Billing;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Shipping;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+
+import java.util.Map;
+import java.util.Objects;
+
+public class CheckoutService {
+
+    public Order checkout(ShoppingCart shoppingCart,
+                          Map<ProductId, Product> currentProducts,
+                          Billing billing,
+                          Shipping shipping,
+                          PaymentMethod paymentMethod) {
+        Objects.requireNonNull(shoppingCart);
+        Objects.requireNonNull(currentProducts);
+        Objects.requireNonNull(billing);
+        Objects.requireNonNull(shipping);
+        Objects.requireNonNull(paymentMethod);
+
+        if (shoppingCart.isEmpty()) {
+            throw ShoppingCartCannotProceedToCheckoutException.noItems(shoppingCart.id());
+        }
+        if (shoppingCart.containsUnavailableItems()) {
+            throw ShoppingCartCannotProceedToCheckoutException.unavailableItems(shoppingCart.id());
+        }
+        for (ShoppingCartItem shoppingCartItem : shoppingCart.items()) {
+            Product product = currentProducts.get(shoppingCartItem.productId());
+            if (product == null || product.isOutOfStock()) {
+                throw ShoppingCartCannotProceedToCheckoutException.unavailableItems(shoppingCart.id());
+            }
+        }
+
+        Order order = Order.draft(shoppingCart.customerId());
+        order.changeBilling(billing);
+        order.changeShipping(shipping);
+        order.changePaymentMethod(paymentMethod);
+        order.addItemsFrom(shoppingCart, currentProducts);
+
+        shoppingCart.empty();
+
+        return order;
+    }
+}
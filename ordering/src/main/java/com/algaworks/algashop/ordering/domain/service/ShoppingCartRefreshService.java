@@ -0,0 +1,76 @@
+package com.algaworks.algashop.ordering.domain.service;
+
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartItem;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ShoppingCartRefreshService {
+
+    private final Executor executor;
+    private final int maxParallelism;
+
+    public ShoppingCartRefreshService(Executor executor, int maxParallelism) {
+        Objects.requireNonNull(executor);
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.executor = executor;
+        this.maxParallelism = maxParallelism;
+    }
+
+    public Set<ShoppingCartId> refresh(List<ShoppingCart> shoppingCarts, Stream<Product> productChanges) {
+        Objects.requireNonNull(shoppingCarts);
+        Objects.requireNonNull(productChanges);
+
+        Map<ProductId, Product> latestProducts = productChanges.collect(
+                Collectors.toMap(Product::id, Function.identity(), (previous, latest) -> latest, LinkedHashMap::new));
+
+        if (latestProducts.isEmpty() || shoppingCarts.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<ShoppingCartId> refreshedCarts = ConcurrentHashMap.newKeySet();
+        int sliceSize = (shoppingCarts.size() + this.maxParallelism - 1) / this.maxParallelism;
+        int slices = (shoppingCarts.size() + sliceSize - 1) / sliceSize;
+
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[slices];
+        for (int slice = 0; slice < slices; slice++) {
+            List<ShoppingCart> cartsSlice = shoppingCarts.subList(
+                    slice * sliceSize, Math.min((slice + 1) * sliceSize, shoppingCarts.size()));
+            tasks[slice] = CompletableFuture.runAsync(
+                    () -> refreshSlice(cartsSlice, latestProducts, refreshedCarts), this.executor);
+        }
+
+        CompletableFuture.allOf(tasks).join();
+
+        return Collections.unmodifiableSet(refreshedCarts);
+    }
+
+    private void refreshSlice(List<ShoppingCart> shoppingCarts, Map<ProductId, Product> latestProducts,
+                              Set<ShoppingCartId> refreshedCarts) {
+        List<Product> matchingProducts = new ArrayList<>();
+        for (ShoppingCart shoppingCart : shoppingCarts) {
+            matchingProducts.clear();
+            for (ShoppingCartItem item : shoppingCart.items()) {
+                Product product = latestProducts.get(item.productId());
+                if (product != null) {
+                    matchingProducts.add(product);
+                }
+            }
+            if (!matchingProducts.isEmpty()) {
+                shoppingCart.refreshItems(matchingProducts);
+                refreshedCarts.add(shoppingCart.id());
+            }
+        }
+    }
+}
@@ -1,26 +1,32 @@
 package com.algaworks.algashop.ordering.domain.utility;
 
-import com.fasterxml.uuid.Generators;
-import com.fasterxml.uuid.impl.TimeBasedEpochRandomGenerator;
 import io.hypersistence.tsid.TSID;
 
+import java.util.Objects;
 import java.util.UUID;
 
 public class IdGenerator {
 
-    private static final TimeBasedEpochRandomGenerator timeBasedEpochRandomGenerator
-            = Generators.timeBasedEpochRandomGenerator();
+    private static final int DEFAULT_NODE_BITS = 6;
+    private static final int DEFAULT_STRIPE_BITS = 4;
 
-    private static final TSID.Factory tsidFactory = TSID.Factory.INSTANCE;
+    private static final TimeBasedUuidGenerator timeBasedUuidGenerator = new TimeBasedUuidGenerator();
+
+    private static volatile TsidGenerator tsidGenerator = new TsidGenerator(0, DEFAULT_NODE_BITS, DEFAULT_STRIPE_BITS);
 
     private IdGenerator() {
     }
 
     public static UUID generateTimeBasedUUID(){
-        return timeBasedEpochRandomGenerator.generate();
+        return timeBasedUuidGenerator.generate();
     }
 
     public static TSID generateTSID(){
-        return tsidFactory.generate();
+        return tsidGenerator.generate();
+    }
+
+    public static void useTsidGenerator(TsidGenerator generator) {
+        Objects.requireNonNull(generator);
+        tsidGenerator = generator;
     }
 }
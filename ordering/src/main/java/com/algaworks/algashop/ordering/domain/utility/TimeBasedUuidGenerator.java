@@ -0,0 +1,89 @@
+package com.algaworks.algashop.ordering.domain.utility;
+
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+public class TimeBasedUuidGenerator {
+
+    private static final int RANDOM_BUFFER_BYTES = 64;
+    private static final int MAX_COUNTER = 0xFFF;
+    private static final int COUNTER_SEED_MASK = 0x7FF;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+    private static final int VIRTUAL_THREAD_STRIPES = 16;
+
+    private final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(ThreadState::new);
+    private final ThreadState[] virtualThreadStates = new ThreadState[VIRTUAL_THREAD_STRIPES];
+    private final LongSupplier clock;
+
+    public TimeBasedUuidGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeBasedUuidGenerator(LongSupplier clock) {
+        this.clock = Objects.requireNonNull(clock);
+        for (int i = 0; i < this.virtualThreadStates.length; i++) {
+            this.virtualThreadStates[i] = new ThreadState();
+        }
+    }
+
+    public UUID generate() {
+        Thread thread = Thread.currentThread();
+        if (!thread.isVirtual()) {
+            return this.generate(this.threadState.get());
+        }
+        ThreadState state = this.virtualThreadStates[(int) thread.threadId() & (VIRTUAL_THREAD_STRIPES - 1)];
+        state.lock.lock();
+        try {
+            return this.generate(state);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    private UUID generate(ThreadState state) {
+        long now = this.clock.getAsLong();
+
+        if (now > state.lastMillis) {
+            state.lastMillis = now;
+            state.counter = (int) state.nextRandom() & COUNTER_SEED_MASK;
+        } else if (++state.counter > MAX_COUNTER) {
+            state.lastMillis++;
+            state.counter = (int) state.nextRandom() & COUNTER_SEED_MASK;
+        }
+
+        long mostSigBits = (state.lastMillis << 16) | VERSION_7 | state.counter;
+        long leastSigBits = (state.nextRandom() & VARIANT_MASK) | VARIANT_RFC_4122;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static SecureRandom newSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ThreadState {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final SecureRandom secureRandom = newSecureRandom();
+        private final ByteBuffer randomBuffer = ByteBuffer.allocate(RANDOM_BUFFER_BYTES).limit(0);
+        private long lastMillis = -1;
+        private int counter;
+
+        private long nextRandom() {
+            if (!this.randomBuffer.hasRemaining()) {
+                this.secureRandom.nextBytes(this.randomBuffer.array());
+                this.randomBuffer.clear();
+            }
+            return this.randomBuffer.getLong();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.algaworks.algashop.ordering.domain.utility;
+
+import io.hypersistence.tsid.TSID;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+public class TsidGenerator {
+
+    private static final long TSID_EPOCH = 1_577_836_800_000L;
+    private static final int RANDOM_BITS = 22;
+    private static final int MAX_NODE_BITS = 20;
+    private static final int STRIPE_PADDING = 16;
+
+    private final int nodeId;
+    private final int nodeBits;
+    private final int stripeCount;
+    private final int stripeMask;
+    private final int counterBits;
+    private final long counterMask;
+    private final long nodeField;
+    private final AtomicLongArray stripeStates;
+    private final LongSupplier clock;
+
+    public TsidGenerator(int nodeId, int nodeBits, int stripeBits) {
+        this(nodeId, nodeBits, stripeBits, System::currentTimeMillis);
+    }
+
+    TsidGenerator(int nodeId, int nodeBits, int stripeBits, LongSupplier clock) {
+        if (nodeBits < 0 || stripeBits < 0 || nodeBits + stripeBits > MAX_NODE_BITS) {
+            throw new IllegalArgumentException("Node bits plus stripe bits must be between 0 and " + MAX_NODE_BITS);
+        }
+        if (nodeId < 0 || nodeId >= (1 << nodeBits)) {
+            throw new IllegalArgumentException("Node id " + nodeId + " does not fit in " + nodeBits + " bits");
+        }
+
+        this.nodeId = nodeId;
+        this.nodeBits = nodeBits;
+        this.stripeCount = 1 << stripeBits;
+        this.stripeMask = this.stripeCount - 1;
+        this.counterBits = RANDOM_BITS - nodeBits - stripeBits;
+        this.counterMask = (1L << this.counterBits) - 1;
+        this.nodeField = (long) nodeId << (stripeBits + this.counterBits);
+        this.stripeStates = new AtomicLongArray(this.stripeCount * STRIPE_PADDING);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public TSID generate() {
+        int stripe = (int) Thread.currentThread().threadId() & this.stripeMask;
+        int index = stripe * STRIPE_PADDING;
+        long now = this.clock.getAsLong() - TSID_EPOCH;
+        while (true) {
+            long previous = this.stripeStates.get(index);
+            long previousTime = previous >>> this.counterBits;
+            long next;
+            if (now > previousTime) {
+                next = (now << this.counterBits) | this.counterSeed();
+            } else if ((previous & this.counterMask) < this.counterMask) {
+                next = previous + 1;
+            } else {
+                next = ((previousTime + 1) << this.counterBits) | this.counterSeed();
+            }
+            if (this.stripeStates.compareAndSet(index, previous, next)) {
+                long time = next >>> this.counterBits;
+                long stripeField = (long) stripe << this.counterBits;
+                return TSID.from((time << RANDOM_BITS) | this.nodeField | stripeField | (next & this.counterMask));
+            }
+        }
+    }
+
+    public int nodeId() {
+        return nodeId;
+    }
+
+    public int nodeBits() {
+        return nodeBits;
+    }
+
+    public int stripes() {
+        return stripeCount;
+    }
+
+    private long counterSeed() {
+        return ThreadLocalRandom.current().nextLong() & (this.counterMask >>> 1);
+    }
+}
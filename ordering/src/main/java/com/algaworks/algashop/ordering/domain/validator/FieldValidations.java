@@ -6,6 +6,9 @@ import org.apache.commons.validator.routines.EmailValidator;
 import java.util.Objects;
 
 public class FieldValidations {
+
+    private static final ValidatedEmails validatedEmails = new ValidatedEmails(4096);
+
     private FieldValidations() {
 
     }
@@ -30,8 +33,12 @@ public class FieldValidations {
         if (email.isBlank()) {
             throw new IllegalArgumentException(errorMessage);
         }
+        if (validatedEmails.contains(email)) {
+            return;
+        }
         if (!EmailValidator.getInstance().isValid(email)) {
             throw new IllegalArgumentException(errorMessage);
         }
+        validatedEmails.add(email);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.algaworks.algashop.ordering.domain.validator;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class ValidatedEmails {
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+
+    ValidatedEmails(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    boolean contains(String email) {
+        return email.equals(this.slots.getAcquire(this.indexOf(email)));
+    }
+
+    void add(String email) {
+        this.slots.setRelease(this.indexOf(email), email);
+    }
+
+    private int indexOf(String email) {
+        int hash = email.hashCode();
+        return (hash ^ (hash >>> 16)) & this.mask;
+    }
+}
@@ -2,11 +2,46 @@ package com.algaworks.algashop.ordering.domain.valueobject;
 
 import com.algaworks.algashop.ordering.domain.validator.FieldValidations;
 
+import java.util.Objects;
+
 import static com.algaworks.algashop.ordering.domain.exception.ErrorMessages.VALIDATION_ERROR_EMAIL_IS_INVALID;
 
-public record Email(String value) {
+public final class Email {
+
+    private final String value;
 
-    public Email {
+    public Email(String value) {
         FieldValidations.requiresValidEmail(value, VALIDATION_ERROR_EMAIL_IS_INVALID);
+        this.value = value;
+    }
+
+    private Email(String value, boolean trusted) {
+        FieldValidations.requiresNonBlank(value);
+        this.value = value;
+    }
+
+    public static Email trusted(String value) {
+        return new Email(value, true);
+    }
+
+    public String value() {
+        return this.value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Email email = (Email) o;
+        return this.value.equals(email.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.value);
+    }
+
+    @Override
+    public String toString() {
+        return "Email[value=" + this.value + "]";
     }
 }
@@ -2,24 +2,42 @@ package com.algaworks.algashop.ordering.domain.valueobject;
 
 import java.util.Objects;
 
-public record LoyaltyPoints(Integer value) implements Comparable<LoyaltyPoints> {
+public record LoyaltyPoints(int value) implements Comparable<LoyaltyPoints> {
 
-    public static final LoyaltyPoints ZERO = new LoyaltyPoints(0);
+    private static final int CACHE_HIGH = 1000;
+    private static final LoyaltyPoints[] CACHE = new LoyaltyPoints[CACHE_HIGH + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new LoyaltyPoints(i);
+        }
+    }
+
+    public static final LoyaltyPoints ZERO = of(0);
 
     public LoyaltyPoints() {
         this(0);
     }
 
-    public LoyaltyPoints(Integer value) {
-        Objects.requireNonNull(value);
+    public LoyaltyPoints {
         if (value < 0) {
             throw new IllegalArgumentException();
         }
-        this.value = value;
     }
 
-    public LoyaltyPoints add(Integer value) {
-        return add(new LoyaltyPoints(value));
+    public LoyaltyPoints(Integer value) {
+        this(Objects.requireNonNull(value).intValue());
+    }
+
+    public static LoyaltyPoints of(int value) {
+        if (value >= 0 && value <= CACHE_HIGH) {
+            return CACHE[value];
+        }
+        return new LoyaltyPoints(value);
+    }
+
+    public LoyaltyPoints add(int value) {
+        return add(of(value));
     }
 
     public LoyaltyPoints add(LoyaltyPoints loyaltyPoints) {
@@ -28,16 +46,16 @@ public record LoyaltyPoints(Integer value) implements Comparable<LoyaltyPoints>
             throw new IllegalArgumentException();
         }
 
-        return new LoyaltyPoints(this.value() + loyaltyPoints.value());
+        return of(this.value() + loyaltyPoints.value());
     }
 
     @Override
     public String toString() {
-        return value.toString();
+        return String.valueOf(value);
     }
 
     @Override
     public int compareTo(LoyaltyPoints o) {
-        return this.value().compareTo(o.value());
+        return Integer.compare(this.value(), o.value());
     }
-}
\ No newline at end of file
+}
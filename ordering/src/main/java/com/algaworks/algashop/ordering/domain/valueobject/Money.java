@@ -4,25 +4,85 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
 
-public record Money(BigDecimal value) implements Comparable<Money> {
+public final class Money implements Comparable<Money> {
 
     private static final RoundingMode HALF_EVEN = RoundingMode.HALF_EVEN;
+    private static final int SCALE = 2;
+    private static final int LONG_BITS = 63;
+
     public static final Money ZERO = new Money(BigDecimal.ZERO);
 
+    private final long minorUnits;
+    private final boolean fitsInLong;
+    private final BigDecimal overflowValue;
+    private BigDecimal value;
+
     public Money(BigDecimal value) {
         Objects.requireNonNull(value);
-        this.value = value.setScale(2, HALF_EVEN);
-        if (this.value.signum() == -1) {
+        BigDecimal scaled = value.setScale(SCALE, HALF_EVEN);
+        if (scaled.signum() == -1) {
             throw new IllegalArgumentException();
         }
+        this.fitsInLong = scaled.unscaledValue().bitLength() <= LONG_BITS;
+        this.minorUnits = this.fitsInLong ? scaled.unscaledValue().longValue() : 0L;
+        this.overflowValue = this.fitsInLong ? null : scaled;
+        this.value = scaled;
     }
 
     public Money(String value) {
         this(new BigDecimal(value));
     }
 
+    private Money(long minorUnits) {
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.minorUnits = minorUnits;
+        this.fitsInLong = true;
+        this.overflowValue = null;
+    }
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public boolean fitsInLong() {
+        return this.fitsInLong;
+    }
+
+    public long minorUnits() {
+        return this.minorUnits;
+    }
+
+    public BigDecimal value() {
+        if (!this.fitsInLong) {
+            return this.overflowValue;
+        }
+        BigDecimal value = this.value;
+        if (value == null) {
+            value = BigDecimal.valueOf(this.minorUnits, SCALE);
+            this.value = value;
+        }
+        return value;
+    }
+
     public Money add(Money money) {
-        return new Money(this.value.add(money.value));
+        Objects.requireNonNull(money);
+        if (this.fitsInLong && money.fitsInLong) {
+            long sum = this.minorUnits + money.minorUnits;
+            if (((this.minorUnits ^ sum) & (money.minorUnits ^ sum)) >= 0) {
+                return new Money(sum);
+            }
+        }
+        return new Money(this.value().add(money.value()));
+    }
+
+    public Money subtract(Money money) {
+        Objects.requireNonNull(money);
+        if (this.fitsInLong && money.fitsInLong) {
+            return new Money(this.minorUnits - money.minorUnits);
+        }
+        return new Money(this.value().subtract(money.value()));
     }
 
     public Money multiply(Quantity quantity) {
@@ -30,15 +90,44 @@ public record Money(BigDecimal value) implements Comparable<Money> {
         if (quantity.value() < 1) {
             throw new IllegalArgumentException();
         }
-        return new Money(this.value.multiply(new BigDecimal(quantity.value())));
+        if (this.fitsInLong) {
+            long product = this.minorUnits * quantity.value();
+            if (Math.multiplyHigh(this.minorUnits, quantity.value()) == 0 && product >= 0) {
+                return new Money(product);
+            }
+        }
+        return new Money(this.value().multiply(new BigDecimal(quantity.value())));
     }
 
     public Money divide(Money other) {
-        return new Money(this.value.divide(other.value, HALF_EVEN));
+        return new Money(this.value().divide(other.value(), HALF_EVEN));
     }
 
     @Override
     public int compareTo(Money o) {
-        return this.value.compareTo(o.value);
+        if (this.fitsInLong && o.fitsInLong) {
+            return Long.compare(this.minorUnits, o.minorUnits);
+        }
+        return this.value().compareTo(o.value());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Money money = (Money) o;
+        if (this.fitsInLong && money.fitsInLong) {
+            return this.minorUnits == money.minorUnits;
+        }
+        return this.fitsInLong == money.fitsInLong && this.value().equals(money.value());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.fitsInLong ? Long.hashCode(this.minorUnits) : this.value().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Money[value=" + this.value() + "]";
     }
 }
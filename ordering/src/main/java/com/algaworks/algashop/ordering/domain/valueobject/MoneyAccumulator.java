@@ -0,0 +1,59 @@
+package com.algaworks.algashop.ordering.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+public final class MoneyAccumulator {
+
+    private long minorUnits;
+    private BigDecimal overflowAmount;
+    private long quantity;
+
+    public MoneyAccumulator add(Money money) {
+        Objects.requireNonNull(money);
+        if (this.overflowAmount == null && money.fitsInLong()) {
+            long sum = this.minorUnits + money.minorUnits();
+            if (((this.minorUnits ^ sum) & (money.minorUnits() ^ sum)) >= 0) {
+                this.minorUnits = sum;
+                return this;
+            }
+        }
+        this.overflowAmount = this.amount().add(money.value());
+        return this;
+    }
+
+    public MoneyAccumulator add(Quantity quantity) {
+        Objects.requireNonNull(quantity);
+        this.quantity += quantity.value();
+        return this;
+    }
+
+    public MoneyAccumulator add(Money money, Quantity quantity) {
+        return this.add(money).add(quantity);
+    }
+
+    public Money toMoney() {
+        if (this.overflowAmount == null) {
+            return Money.ofMinorUnits(this.minorUnits);
+        }
+        return new Money(this.overflowAmount);
+    }
+
+    public Quantity toQuantity() {
+        return Quantity.of(Math.toIntExact(this.quantity));
+    }
+
+    public MoneyAccumulator reset() {
+        this.minorUnits = 0;
+        this.overflowAmount = null;
+        this.quantity = 0;
+        return this;
+    }
+
+    private BigDecimal amount() {
+        if (this.overflowAmount == null) {
+            return BigDecimal.valueOf(this.minorUnits, 2);
+        }
+        return this.overflowAmount;
+    }
+}
@@ -26,7 +26,7 @@ public record Product(
         }
     }
 
-    private boolean isOutOfStock() {
+    public boolean isOutOfStock() {
         return !inStock();
     }
 }
\ No newline at end of file
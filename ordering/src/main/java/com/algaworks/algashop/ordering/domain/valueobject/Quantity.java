@@ -2,23 +2,48 @@ package com.algaworks.algashop.ordering.domain.valueobject;
 
 import java.util.Objects;
 
-public record Quantity(Integer value) implements Comparable<Quantity> {
-    public static final Quantity ZERO = new Quantity(1);
+public record Quantity(int value) implements Comparable<Quantity> {
+
+    private static final int CACHE_HIGH = 1000;
+    private static final Quantity[] CACHE = new Quantity[CACHE_HIGH + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Quantity(i);
+        }
+    }
+
+    public static final Quantity ZERO = of(0);
 
     public Quantity {
-        Objects.requireNonNull(value);
         if (value < 0) {
             throw new IllegalArgumentException();
         }
     }
 
+    public Quantity(Integer value) {
+        this(Objects.requireNonNull(value).intValue());
+    }
+
+    public static Quantity of(int value) {
+        if (value >= 0 && value <= CACHE_HIGH) {
+            return CACHE[value];
+        }
+        return new Quantity(value);
+    }
+
     public Quantity add(Quantity quantity) {
         Objects.requireNonNull(quantity);
-        return new Quantity(Integer.sum(this.value, quantity.value));
+        return of(this.value + quantity.value);
+    }
+
+    public Quantity subtract(Quantity quantity) {
+        Objects.requireNonNull(quantity);
+        return of(this.value - quantity.value);
     }
 
     @Override
     public int compareTo(Quantity o) {
-        return this.value.compareTo(o.value);
+        return Integer.compare(this.value, o.value);
     }
 }
@@ -0,0 +1,149 @@
+package com.algaworks.algashop.ordering.infrastructure.codec;
+
+import com.algaworks.algashop.ordering.domain.valueobject.*;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+    private final List<String> dictionary = new ArrayList<>();
+
+    BinaryReader(byte[] buffer) {
+        this.buffer = Objects.requireNonNull(buffer);
+    }
+
+    boolean hasRemaining() {
+        return this.position < this.buffer.length;
+    }
+
+    int readByte() {
+        this.require(1);
+        return this.buffer[this.position++] & 0xFF;
+    }
+
+    int readOrdinal(int length) {
+        int ordinal = this.readByte();
+        if (ordinal >= length) {
+            throw new IllegalArgumentException("Malformed snapshot: unknown ordinal " + ordinal);
+        }
+        return ordinal;
+    }
+
+    boolean readBoolean() {
+        return this.readByte() != 0;
+    }
+
+    long readLong() {
+        this.require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (this.buffer[this.position++] & 0xFF);
+        }
+        return value;
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = this.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed snapshot: variable-length number is too long");
+    }
+
+    int readVarInt() {
+        long value = this.readVarLong();
+        if ((value >>> 32) != 0) {
+            throw new IllegalArgumentException("Malformed snapshot: number does not fit in an int");
+        }
+        return (int) value;
+    }
+
+    long readSignedVarLong() {
+        long value = this.readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    UUID readUuid() {
+        return new UUID(this.readLong(), this.readLong());
+    }
+
+    String readString() {
+        int tag = this.readVarInt();
+        if (tag == 0) {
+            return null;
+        }
+        if ((tag & 1) == 0) {
+            int index = (tag >>> 1) - 1;
+            if (index >= this.dictionary.size()) {
+                throw new IllegalArgumentException("Malformed snapshot: unknown string reference " + index);
+            }
+            return this.dictionary.get(index);
+        }
+        int length = tag >>> 1;
+        this.require(length);
+        String value = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+        this.position += length;
+        this.dictionary.add(value);
+        return value;
+    }
+
+    Money readMoney() {
+        long code = this.readVarLong();
+        if ((code & 1) == 0) {
+            return Money.ofMinorUnits(code >>> 1);
+        }
+        return new Money(new BigDecimal(this.readString()));
+    }
+
+    Quantity readQuantity() {
+        return Quantity.of(this.readVarInt());
+    }
+
+    OffsetDateTime readDateTime() {
+        long epochSecond = this.readSignedVarLong();
+        int nano = this.readVarInt();
+        ZoneOffset offset = ZoneOffset.ofTotalSeconds((int) this.readSignedVarLong());
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), offset);
+    }
+
+    LocalDate readDate() {
+        return LocalDate.ofEpochDay(this.readSignedVarLong());
+    }
+
+    FullName readFullName() {
+        return new FullName(this.readString(), this.readString());
+    }
+
+    Address readAddress() {
+        return Address.builder()
+                .street(this.readString())
+                .complement(this.readString())
+                .neighborhood(this.readString())
+                .number(this.readString())
+                .city(this.readString())
+                .state(this.readString())
+                .zipCode(new ZipCode(this.readString()))
+                .build();
+    }
+
+    private void require(int bytes) {
+        if (bytes < 0 || this.position + bytes > this.buffer.length) {
+            throw new IllegalArgumentException("Malformed snapshot: unexpected end of input");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.algaworks.algashop.ordering.infrastructure.codec;
+
+import com.algaworks.algashop.ordering.domain.valueobject.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+final class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+
+    BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer, this.position);
+    }
+
+    void writeByte(int value) {
+        this.ensureCapacity(1);
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    void writeBoolean(boolean value) {
+        this.writeByte(value ? 1 : 0);
+    }
+
+    void writeLong(long value) {
+        this.ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            this.buffer[this.position++] = (byte) (value >>> shift);
+        }
+    }
+
+    void writeVarLong(long value) {
+        this.ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            this.buffer[this.position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    void writeVarInt(int value) {
+        this.writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    void writeSignedVarLong(long value) {
+        this.writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeUuid(UUID value) {
+        this.writeLong(value.getMostSignificantBits());
+        this.writeLong(value.getLeastSignificantBits());
+    }
+
+    void writeString(String value) {
+        if (value == null) {
+            this.writeVarInt(0);
+            return;
+        }
+        Integer index = this.dictionary.get(value);
+        if (index != null) {
+            this.writeVarInt((index + 1) << 1);
+            return;
+        }
+        this.dictionary.put(value, this.dictionary.size());
+        if (isAscii(value)) {
+            int length = value.length();
+            this.writeVarInt((length << 1) | 1);
+            this.ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                this.buffer[this.position++] = (byte) value.charAt(i);
+            }
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.writeVarInt((bytes.length << 1) | 1);
+            this.ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+            this.position += bytes.length;
+        }
+    }
+
+    void writeMoney(Money money) {
+        if (money.fitsInLong()) {
+            this.writeVarLong(money.minorUnits() << 1);
+        } else {
+            this.writeVarLong(1);
+            this.writeString(money.value().toPlainString());
+        }
+    }
+
+    void writeQuantity(Quantity quantity) {
+        this.writeVarInt(quantity.value());
+    }
+
+    void writeDateTime(OffsetDateTime dateTime) {
+        this.writeSignedVarLong(dateTime.toEpochSecond());
+        this.writeVarInt(dateTime.getNano());
+        this.writeSignedVarLong(dateTime.getOffset().getTotalSeconds());
+    }
+
+    void writeDate(LocalDate date) {
+        this.writeSignedVarLong(date.toEpochDay());
+    }
+
+    void writeFullName(FullName fullName) {
+        this.writeString(fullName.firstName());
+        this.writeString(fullName.lastName());
+    }
+
+    void writeAddress(Address address) {
+        this.writeString(address.street());
+        this.writeString(address.complement());
+        this.writeString(address.neighborhood());
+        this.writeString(address.number());
+        this.writeString(address.city());
+        this.writeString(address.state());
+        this.writeString(address.zipCode().value());
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (this.position + bytes > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(this.position + bytes, this.buffer.length << 1));
+        }
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
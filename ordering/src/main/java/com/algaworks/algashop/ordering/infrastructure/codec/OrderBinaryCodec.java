@@ -0,0 +1,185 @@
+package com.algaworks.algashop.ordering.infrastructure.codec;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.OrderItem;
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.entity.PaymentMethod;
+import com.algaworks.algashop.ordering.domain.valueobject.*;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderItemId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+@Component
+public class OrderBinaryCodec {
+
+    static final int FORMAT = 0x4F01;
+
+    private static final int PLACED_AT = 1;
+    private static final int PAID_AT = 1 << 1;
+    private static final int CANCELED_AT = 1 << 2;
+    private static final int READY_AT = 1 << 3;
+    private static final int BILLING = 1 << 4;
+    private static final int SHIPPING = 1 << 5;
+    private static final int PAYMENT_METHOD = 1 << 6;
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final PaymentMethod[] PAYMENT_METHODS = PaymentMethod.values();
+
+    public byte[] encode(Order order) {
+        Objects.requireNonNull(order);
+        BinaryWriter writer = new BinaryWriter(128 + order.items().size() * 48);
+        writer.writeVarInt(FORMAT);
+        writer.writeLong(order.id().value().toLong());
+        writer.writeUuid(order.customerId().value());
+        writer.writeMoney(order.totalAmount());
+        writer.writeQuantity(order.totalItems());
+        writer.writeByte(order.status().ordinal());
+        writer.writeByte(presence(order));
+
+        writeIfPresent(writer, order.placedAt());
+        writeIfPresent(writer, order.paidAt());
+        writeIfPresent(writer, order.canceledAt());
+        writeIfPresent(writer, order.readyAt());
+        if (order.billing() != null) {
+            writeBilling(writer, order.billing());
+        }
+        if (order.shipping() != null) {
+            writeShipping(writer, order.shipping());
+        }
+        if (order.paymentMethod() != null) {
+            writer.writeByte(order.paymentMethod().ordinal());
+        }
+
+        writer.writeVarInt(order.items().size());
+        for (OrderItem item : order.items()) {
+            writer.writeLong(item.id().value().toLong());
+            writer.writeUuid(item.productId().value());
+            writer.writeString(item.productName().value());
+            writer.writeMoney(item.price());
+            writer.writeQuantity(item.quantity());
+            writer.writeMoney(item.totalAmount());
+        }
+        return writer.toByteArray();
+    }
+
+    public Order decode(byte[] snapshot) {
+        BinaryReader reader = new BinaryReader(snapshot);
+        int format = reader.readVarInt();
+        if (format != FORMAT) {
+            throw new IllegalArgumentException("Unsupported order snapshot format " + Integer.toHexString(format));
+        }
+        OrderId orderId = new OrderId(reader.readLong());
+        CustomerId customerId = new CustomerId(reader.readUuid());
+        Money totalAmount = reader.readMoney();
+        Quantity totalItems = reader.readQuantity();
+        OrderStatus status = STATUSES[reader.readOrdinal(STATUSES.length)];
+        int presence = reader.readByte();
+
+        OffsetDateTime placedAt = (presence & PLACED_AT) != 0 ? reader.readDateTime() : null;
+        OffsetDateTime paidAt = (presence & PAID_AT) != 0 ? reader.readDateTime() : null;
+        OffsetDateTime canceledAt = (presence & CANCELED_AT) != 0 ? reader.readDateTime() : null;
+        OffsetDateTime readyAt = (presence & READY_AT) != 0 ? reader.readDateTime() : null;
+        Billing billing = (presence & BILLING) != 0 ? readBilling(reader) : null;
+        Shipping shipping = (presence & SHIPPING) != 0 ? readShipping(reader) : null;
+        PaymentMethod paymentMethod = (presence & PAYMENT_METHOD) != 0
+                ? PAYMENT_METHODS[reader.readOrdinal(PAYMENT_METHODS.length)] : null;
+
+        int itemCount = reader.readVarInt();
+        Set<OrderItem> items = new LinkedHashSet<>(Math.min(itemCount, 1024) * 2);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItem.existing()
+                    .id(new OrderItemId(reader.readLong()))
+                    .orderId(orderId)
+                    .productId(new ProductId(reader.readUuid()))
+                    .productName(new ProductName(reader.readString()))
+                    .price(reader.readMoney())
+                    .quantity(reader.readQuantity())
+                    .totalAmount(reader.readMoney())
+                    .build());
+        }
+        if (reader.hasRemaining()) {
+            throw new IllegalArgumentException("Malformed snapshot: trailing bytes");
+        }
+
+        return Order.existing()
+                .id(orderId)
+                .customerId(customerId)
+                .totalAmount(totalAmount)
+                .totalItems(totalItems)
+                .placedAt(placedAt)
+                .paidAt(paidAt)
+                .canceledAt(canceledAt)
+                .readyAt(readyAt)
+                .billing(billing)
+                .shipping(shipping)
+                .status(status)
+                .paymentMethod(paymentMethod)
+                .items(items)
+                .build();
+    }
+
+    private static int presence(Order order) {
+        int presence = 0;
+        presence |= order.placedAt() != null ? PLACED_AT : 0;
+        presence |= order.paidAt() != null ? PAID_AT : 0;
+        presence |= order.canceledAt() != null ? CANCELED_AT : 0;
+        presence |= order.readyAt() != null ? READY_AT : 0;
+        presence |= order.billing() != null ? BILLING : 0;
+        presence |= order.shipping() != null ? SHIPPING : 0;
+        presence |= order.paymentMethod() != null ? PAYMENT_METHOD : 0;
+        return presence;
+    }
+
+    private static void writeIfPresent(BinaryWriter writer, OffsetDateTime dateTime) {
+        if (dateTime != null) {
+            writer.writeDateTime(dateTime);
+        }
+    }
+
+    private static void writeBilling(BinaryWriter writer, Billing billing) {
+        writer.writeFullName(billing.fullName());
+        writer.writeString(billing.document().value());
+        writer.writeString(billing.phone().value());
+        writer.writeString(billing.email().value());
+        writer.writeAddress(billing.address());
+    }
+
+    private static Billing readBilling(BinaryReader reader) {
+        return Billing.builder()
+                .fullName(reader.readFullName())
+                .document(new Document(reader.readString()))
+                .phone(new Phone(reader.readString()))
+                .email(new Email(reader.readString()))
+                .address(reader.readAddress())
+                .build();
+    }
+
+    private static void writeShipping(BinaryWriter writer, Shipping shipping) {
+        writer.writeMoney(shipping.cost());
+        writer.writeDate(shipping.expectedDate());
+        writer.writeFullName(shipping.recipient().fullName());
+        writer.writeString(shipping.recipient().document().value());
+        writer.writeString(shipping.recipient().phone().value());
+        writer.writeAddress(shipping.address());
+    }
+
+    private static Shipping readShipping(BinaryReader reader) {
+        return Shipping.builder()
+                .cost(reader.readMoney())
+                .expectedDate(reader.readDate())
+                .recipient(Recipient.builder()
+                        .fullName(reader.readFullName())
+                        .document(new Document(reader.readString()))
+                        .phone(new Phone(reader.readString()))
+                        .build())
+                .address(reader.readAddress())
+                .build();
+    }
+}
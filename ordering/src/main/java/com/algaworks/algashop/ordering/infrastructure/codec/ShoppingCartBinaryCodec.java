@@ -0,0 +1,87 @@
+package com.algaworks.algashop.ordering.infrastructure.codec;
+
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartItem;
+import com.algaworks.algashop.ordering.domain.valueobject.Money;
+import com.algaworks.algashop.ordering.domain.valueobject.ProductName;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartItemId;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+@Component
+public class ShoppingCartBinaryCodec {
+
+    static final int FORMAT = 0x5301;
+
+    public byte[] encode(ShoppingCart shoppingCart) {
+        Objects.requireNonNull(shoppingCart);
+        BinaryWriter writer = new BinaryWriter(64 + shoppingCart.items().size() * 64);
+        writer.writeVarInt(FORMAT);
+        writer.writeUuid(shoppingCart.id().value());
+        writer.writeUuid(shoppingCart.customerId().value());
+        writer.writeMoney(shoppingCart.totalAmount());
+        writer.writeQuantity(shoppingCart.totalItems());
+        writer.writeDateTime(shoppingCart.createdAt());
+
+        writer.writeVarInt(shoppingCart.items().size());
+        for (ShoppingCartItem item : shoppingCart.items()) {
+            writer.writeUuid(item.id().value());
+            writer.writeUuid(item.productId().value());
+            writer.writeString(item.productName().value());
+            writer.writeMoney(item.price());
+            writer.writeQuantity(item.quantity());
+            writer.writeBoolean(item.isAvailable());
+            writer.writeMoney(item.totalAmount());
+        }
+        return writer.toByteArray();
+    }
+
+    public ShoppingCart decode(byte[] snapshot) {
+        BinaryReader reader = new BinaryReader(snapshot);
+        int format = reader.readVarInt();
+        if (format != FORMAT) {
+            throw new IllegalArgumentException(
+                    "Unsupported shopping cart snapshot format " + Integer.toHexString(format));
+        }
+        ShoppingCartId shoppingCartId = new ShoppingCartId(reader.readUuid());
+        CustomerId customerId = new CustomerId(reader.readUuid());
+        Money totalAmount = reader.readMoney();
+        Quantity totalItems = reader.readQuantity();
+        OffsetDateTime createdAt = reader.readDateTime();
+
+        int itemCount = reader.readVarInt();
+        Set<ShoppingCartItem> items = new LinkedHashSet<>(Math.min(itemCount, 1024) * 2);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(ShoppingCartItem.existing()
+                    .id(new ShoppingCartItemId(reader.readUuid()))
+                    .shoppingCartId(shoppingCartId)
+                    .productId(new ProductId(reader.readUuid()))
+                    .productName(new ProductName(reader.readString()))
+                    .price(reader.readMoney())
+                    .quantity(reader.readQuantity())
+                    .available(reader.readBoolean())
+                    .totalAmount(reader.readMoney())
+                    .build());
+        }
+        if (reader.hasRemaining()) {
+            throw new IllegalArgumentException("Malformed snapshot: trailing bytes");
+        }
+
+        return ShoppingCart.existing()
+                .id(shoppingCartId)
+                .customerId(customerId)
+                .totalAmount(totalAmount)
+                .totalItems(totalItems)
+                .createdAt(createdAt)
+                .items(items)
+                .build();
+    }
+}
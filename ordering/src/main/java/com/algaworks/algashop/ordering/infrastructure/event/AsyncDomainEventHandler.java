@@ -0,0 +1,95 @@
+package com.algaworks.algashop.ordering.infrastructure.event;
+
+import com.algaworks.algashop.ordering.domain.event.DomainEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class AsyncDomainEventHandler implements DomainEventHandler, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncDomainEventHandler.class);
+
+    private final DomainEventHandler delegate;
+    private final Executor executor;
+    private final int maxPending;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = this.lock.newCondition();
+    private final Condition idle = this.lock.newCondition();
+    private final ArrayDeque<PendingEvent> pending = new ArrayDeque<>();
+    private boolean draining;
+
+    AsyncDomainEventHandler(DomainEventHandler delegate, Executor executor, int maxPending) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.executor = Objects.requireNonNull(executor);
+        if (maxPending < 1) {
+            throw new IllegalArgumentException("Max pending events must be positive");
+        }
+        this.maxPending = maxPending;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        this.lock.lock();
+        try {
+            while (this.pending.size() >= this.maxPending) {
+                this.notFull.awaitUninterruptibly();
+            }
+            this.pending.add(new PendingEvent(event, sequence, endOfBatch));
+            if (this.draining) {
+                return;
+            }
+            this.draining = true;
+        } finally {
+            this.lock.unlock();
+        }
+        try {
+            this.executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            this.drain();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            while (this.draining) {
+                this.idle.awaitUninterruptibly();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            PendingEvent next;
+            this.lock.lock();
+            try {
+                next = this.pending.poll();
+                if (next == null) {
+                    this.draining = false;
+                    this.idle.signalAll();
+                    return;
+                }
+                this.notFull.signal();
+            } finally {
+                this.lock.unlock();
+            }
+            try {
+                this.delegate.onEvent(next.event(), next.sequence(), next.endOfBatch());
+            } catch (RuntimeException e) {
+                log.warn("Domain event handler failed on {} at sequence {}", next.event(), next.sequence(), e);
+            }
+        }
+    }
+
+    private record PendingEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.algaworks.algashop.ordering.infrastructure.event;
+
+import com.algaworks.algashop.ordering.domain.event.DomainEvent;
+
+@FunctionalInterface
+public interface DomainEventHandler {
+
+    void onEvent(DomainEvent event, long sequence, boolean endOfBatch);
+}
@@ -0,0 +1,30 @@
+package com.algaworks.algashop.ordering.infrastructure.event;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+@Configuration
+@EnableConfigurationProperties(EventBusProperties.class)
+public class EventBusConfig {
+
+    @Bean
+    public RingBufferEventBus domainEventBus(EventBusProperties properties, List<DomainEventHandler> handlers,
+                                             Environment environment) {
+        RingBufferEventBus eventBus = new RingBufferEventBus(properties.capacity());
+        if (Threading.VIRTUAL.isActive(environment)) {
+            ThreadFactory threadFactory = Thread.ofVirtual().name("domain-event-handler-", 0).factory();
+            Executor executor = task -> threadFactory.newThread(task).start();
+            handlers.forEach(handler -> eventBus.subscribe(handler, executor));
+        } else {
+            handlers.forEach(eventBus::subscribe);
+        }
+        return eventBus;
+    }
+}
@@ -0,0 +1,10 @@
+package com.algaworks.algashop.ordering.infrastructure.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("algashop.ordering.event-bus")
+public record EventBusProperties(
+        @DefaultValue("65536") int capacity
+) {
+}
@@ -0,0 +1,327 @@
+package com.algaworks.algashop.ordering.infrastructure.event;
+
+import com.algaworks.algashop.ordering.domain.event.DomainEvent;
+import com.algaworks.algashop.ordering.domain.event.DomainEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+public class RingBufferEventBus implements DomainEventPublisher, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RingBufferEventBus.class);
+
+    private static final VarHandle PUBLISHED = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int SPIN_TRIES = 200;
+    private static final int YIELD_TRIES = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSED = 1L << 62;
+
+    private final DomainEvent[] slots;
+    private final long[] published;
+    private final int mask;
+    private final int maxBatch;
+    private final Sequence claimed = new Sequence(-1);
+    private final Sequence consumed = new Sequence(-1);
+    private final Thread dispatcher;
+    private final ReentrantLock subscribeLock = new ReentrantLock();
+    private final ReentrantLock capacityLock = new ReentrantLock();
+    private final Condition capacityAvailable = this.capacityLock.newCondition();
+    private volatile int waitingProducers;
+    private volatile boolean dispatching = true;
+    private volatile DomainEventHandler[] handlers = new DomainEventHandler[0];
+    private final List<AsyncDomainEventHandler> asyncHandlers = new ArrayList<>();
+    private volatile boolean running = true;
+    private volatile long finalSequence = Long.MAX_VALUE;
+
+    public RingBufferEventBus(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        this.slots = new DomainEvent[capacity];
+        this.published = new long[capacity];
+        Arrays.fill(this.published, -1);
+        this.mask = capacity - 1;
+        this.maxBatch = Math.max(1, capacity >> 2);
+        this.dispatcher = Thread.ofPlatform().name("domain-event-bus").daemon().start(this::dispatch);
+    }
+
+    public void subscribe(DomainEventHandler handler) {
+        Objects.requireNonNull(handler);
+        this.subscribeLock.lock();
+        try {
+            DomainEventHandler[] current = this.handlers;
+            DomainEventHandler[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = handler;
+            this.handlers = updated;
+        } finally {
+            this.subscribeLock.unlock();
+        }
+    }
+
+    public void subscribe(DomainEventHandler handler, Executor executor) {
+        AsyncDomainEventHandler asyncHandler = new AsyncDomainEventHandler(handler, executor, this.slots.length);
+        this.subscribeLock.lock();
+        try {
+            this.asyncHandlers.add(asyncHandler);
+        } finally {
+            this.subscribeLock.unlock();
+        }
+        this.subscribe(asyncHandler);
+    }
+
+    public <T extends DomainEvent> void subscribe(Class<T> eventType, Consumer<? super T> consumer) {
+        Objects.requireNonNull(eventType);
+        Objects.requireNonNull(consumer);
+        this.subscribe((event, sequence, endOfBatch) -> {
+            if (eventType.isInstance(event)) {
+                consumer.accept(eventType.cast(event));
+            }
+        });
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        Objects.requireNonNull(event);
+        long sequence = this.claim(1);
+        this.write(sequence, event);
+    }
+
+    @Override
+    public void publishAll(Collection<? extends DomainEvent> events) {
+        Objects.requireNonNull(events);
+        DomainEvent[] pending = events.toArray(new DomainEvent[0]);
+        for (DomainEvent event : pending) {
+            Objects.requireNonNull(event);
+        }
+        int next = 0;
+        while (next < pending.length) {
+            int batch = Math.min(pending.length - next, this.slots.length);
+            long last = this.claim(batch);
+            for (long sequence = last - batch + 1; sequence <= last; sequence++) {
+                this.write(sequence, pending[next++]);
+            }
+        }
+    }
+
+    public int capacity() {
+        return this.slots.length;
+    }
+
+    public long publishedCount() {
+        long last = this.claimed.get();
+        return (last < CLOSED ? last : this.finalSequence) + 1;
+    }
+
+    public long consumedCount() {
+        return this.consumed.get() + 1;
+    }
+
+    @Override
+    public void close() {
+        long last;
+        do {
+            last = this.claimed.get();
+        } while (last < CLOSED && !this.claimed.compareAndSet(last, last + CLOSED));
+        if (last < CLOSED) {
+            this.finalSequence = last;
+            this.running = false;
+            LockSupport.unpark(this.dispatcher);
+        }
+        try {
+            this.dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        this.closeAsyncHandlers();
+    }
+
+    private void closeAsyncHandlers() {
+        List<AsyncDomainEventHandler> current;
+        this.subscribeLock.lock();
+        try {
+            current = List.copyOf(this.asyncHandlers);
+        } finally {
+            this.subscribeLock.unlock();
+        }
+        current.forEach(AsyncDomainEventHandler::close);
+    }
+
+    private long claim(int count) {
+        if (!this.running) {
+            throw new IllegalStateException("Event bus is closed");
+        }
+        long previous = this.claimed.getAndAdd(count);
+        if (previous >= CLOSED) {
+            throw new IllegalStateException("Event bus is closed");
+        }
+        long last = previous + count;
+        long wrapPoint = last - this.slots.length;
+        if (wrapPoint > this.consumed.get()) {
+            this.awaitCapacity(wrapPoint);
+        }
+        return last;
+    }
+
+    private void awaitCapacity(long wrapPoint) {
+        for (int tries = 0; tries < SPIN_TRIES; tries++) {
+            if (wrapPoint <= this.consumed.get()) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        this.capacityLock.lock();
+        try {
+            this.waitingProducers++;
+            while (wrapPoint > this.consumed.get()) {
+                if (!this.dispatching) {
+                    throw new IllegalStateException("Event bus is closed");
+                }
+                this.capacityAvailable.awaitUninterruptibly();
+            }
+        } finally {
+            this.waitingProducers--;
+            this.capacityLock.unlock();
+        }
+    }
+
+    private void signalCapacity() {
+        this.capacityLock.lock();
+        try {
+            this.capacityAvailable.signalAll();
+        } finally {
+            this.capacityLock.unlock();
+        }
+    }
+
+    private void write(long sequence, DomainEvent event) {
+        int index = (int) sequence & this.mask;
+        this.slots[index] = event;
+        PUBLISHED.setRelease(this.published, index, sequence);
+    }
+
+    private void dispatch() {
+        try {
+            this.dispatchUntilDrained();
+        } finally {
+            this.dispatching = false;
+            this.signalCapacity();
+        }
+    }
+
+    private void dispatchUntilDrained() {
+        long next = 0;
+        int idle = 0;
+        while (true) {
+            long available = next - 1;
+            long limit = next + this.maxBatch - 1;
+            while (available < limit && this.isPublished(available + 1)) {
+                available++;
+            }
+
+            if (available >= next) {
+                DomainEventHandler[] current = this.handlers;
+                for (long sequence = next; sequence <= available; sequence++) {
+                    int index = (int) sequence & this.mask;
+                    DomainEvent event = this.slots[index];
+                    this.slots[index] = null;
+                    this.handle(current, event, sequence, sequence == available);
+                }
+                this.consumed.set(available);
+                if (this.waitingProducers > 0) {
+                    this.signalCapacity();
+                }
+                next = available + 1;
+                idle = 0;
+            } else if (!this.running && next > this.finalSequence) {
+                return;
+            } else {
+                idle = backOff(idle);
+            }
+        }
+    }
+
+    private boolean isPublished(long sequence) {
+        return (long) PUBLISHED.getAcquire(this.published, (int) sequence & this.mask) == sequence;
+    }
+
+    private void handle(DomainEventHandler[] current, DomainEvent event, long sequence, boolean endOfBatch) {
+        for (DomainEventHandler handler : current) {
+            try {
+                handler.onEvent(event, sequence, endOfBatch);
+            } catch (RuntimeException e) {
+                log.warn("Domain event handler failed on {} at sequence {}", event, sequence, e);
+            }
+        }
+    }
+
+    private static int backOff(int tries) {
+        if (tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+            return tries;
+        }
+        return tries + 1;
+    }
+
+    @SuppressWarnings("unused")
+    private static class LeftPadding {
+        protected long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    private static class SequenceValue extends LeftPadding {
+        protected volatile long value;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Sequence extends SequenceValue {
+
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        protected long p11, p12, p13, p14, p15, p16, p17;
+
+        private Sequence(long initialValue) {
+            this.value = initialValue;
+        }
+
+        private long get() {
+            return this.value;
+        }
+
+        private void set(long value) {
+            this.value = value;
+        }
+
+        private long getAndAdd(long delta) {
+            return (long) VALUE.getAndAdd(this, delta);
+        }
+
+        private boolean compareAndSet(long expected, long value) {
+            return VALUE.compareAndSet(this, expected, value);
+        }
+    }
+}
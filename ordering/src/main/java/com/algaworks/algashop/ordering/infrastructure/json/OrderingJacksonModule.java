@@ -0,0 +1,239 @@
+package com.algaworks.algashop.ordering.infrastructure.json;
+
+import com.algaworks.algashop.ordering.domain.valueobject.Email;
+import com.algaworks.algashop.ordering.domain.valueobject.Money;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.ZipCode;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Component
+public class OrderingJacksonModule extends SimpleModule {
+
+    public OrderingJacksonModule() {
+        super(OrderingJacksonModule.class.getSimpleName());
+        this.addSerializer(OrderId.class, new OrderIdSerializer());
+        this.addDeserializer(OrderId.class, new OrderIdDeserializer());
+        this.addSerializer(CustomerId.class, new CustomerIdSerializer());
+        this.addDeserializer(CustomerId.class, new CustomerIdDeserializer());
+        this.addSerializer(Money.class, new MoneySerializer());
+        this.addDeserializer(Money.class, new MoneyDeserializer());
+        this.addSerializer(Quantity.class, new QuantitySerializer());
+        this.addDeserializer(Quantity.class, new QuantityDeserializer());
+        this.addSerializer(ZipCode.class, new ZipCodeSerializer());
+        this.addDeserializer(ZipCode.class, new ZipCodeDeserializer());
+        this.addSerializer(Email.class, new EmailSerializer());
+        this.addDeserializer(Email.class, new EmailDeserializer());
+    }
+
+    static final class OrderIdSerializer extends StdScalarSerializer<OrderId> {
+
+        OrderIdSerializer() {
+            super(OrderId.class);
+        }
+
+        @Override
+        public void serialize(OrderId value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(value.value().toString());
+        }
+    }
+
+    static final class OrderIdDeserializer extends StdScalarDeserializer<OrderId> {
+
+        OrderIdDeserializer() {
+            super(OrderId.class);
+        }
+
+        @Override
+        public OrderId deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return new OrderId(p.getLongValue());
+            }
+            String text = text(p, ctxt, OrderId.class);
+            try {
+                return new OrderId(text);
+            } catch (IllegalArgumentException e) {
+                throw ctxt.weirdStringException(text, OrderId.class, "not a valid TSID");
+            }
+        }
+    }
+
+    static final class CustomerIdSerializer extends StdScalarSerializer<CustomerId> {
+
+        CustomerIdSerializer() {
+            super(CustomerId.class);
+        }
+
+        @Override
+        public void serialize(CustomerId value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(value.value().toString());
+        }
+    }
+
+    static final class CustomerIdDeserializer extends StdScalarDeserializer<CustomerId> {
+
+        CustomerIdDeserializer() {
+            super(CustomerId.class);
+        }
+
+        @Override
+        public CustomerId deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            String text = text(p, ctxt, CustomerId.class);
+            try {
+                return new CustomerId(UUID.fromString(text));
+            } catch (IllegalArgumentException e) {
+                throw ctxt.weirdStringException(text, CustomerId.class, "not a valid UUID");
+            }
+        }
+    }
+
+    static final class MoneySerializer extends StdScalarSerializer<Money> {
+
+        MoneySerializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (!value.fitsInLong()) {
+                gen.writeNumber(value.value().toPlainString());
+                return;
+            }
+            long minorUnits = value.minorUnits();
+            long cents = minorUnits % 100;
+            gen.writeNumber((minorUnits / 100) + (cents < 10 ? ".0" : ".") + cents);
+        }
+    }
+
+    static final class MoneyDeserializer extends StdScalarDeserializer<Money> {
+
+        MoneyDeserializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            BigDecimal value;
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT) || p.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+                value = p.getDecimalValue();
+            } else {
+                String text = text(p, ctxt, Money.class);
+                try {
+                    value = new BigDecimal(text);
+                } catch (NumberFormatException e) {
+                    throw ctxt.weirdStringException(text, Money.class, "not a decimal amount");
+                }
+            }
+            if (value.signum() < 0) {
+                throw ctxt.weirdNumberException(value, Money.class, "amount must not be negative");
+            }
+            return new Money(value);
+        }
+    }
+
+    static final class QuantitySerializer extends StdScalarSerializer<Quantity> {
+
+        QuantitySerializer() {
+            super(Quantity.class);
+        }
+
+        @Override
+        public void serialize(Quantity value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.value());
+        }
+    }
+
+    static final class QuantityDeserializer extends StdScalarDeserializer<Quantity> {
+
+        QuantityDeserializer() {
+            super(Quantity.class);
+        }
+
+        @Override
+        public Quantity deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            int value = this._parseIntPrimitive(p, ctxt);
+            if (value < 0) {
+                throw ctxt.weirdNumberException(value, Quantity.class, "quantity must not be negative");
+            }
+            return Quantity.of(value);
+        }
+    }
+
+    static final class ZipCodeSerializer extends StdScalarSerializer<ZipCode> {
+
+        ZipCodeSerializer() {
+            super(ZipCode.class);
+        }
+
+        @Override
+        public void serialize(ZipCode value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(value.value());
+        }
+    }
+
+    static final class ZipCodeDeserializer extends StdScalarDeserializer<ZipCode> {
+
+        ZipCodeDeserializer() {
+            super(ZipCode.class);
+        }
+
+        @Override
+        public ZipCode deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            String text = text(p, ctxt, ZipCode.class);
+            try {
+                return new ZipCode(text);
+            } catch (IllegalArgumentException e) {
+                throw ctxt.weirdStringException(text, ZipCode.class, "zip code must have 5 characters");
+            }
+        }
+    }
+
+    static final class EmailSerializer extends StdScalarSerializer<Email> {
+
+        EmailSerializer() {
+            super(Email.class);
+        }
+
+        @Override
+        public void serialize(Email value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(value.value());
+        }
+    }
+
+    static final class EmailDeserializer extends StdScalarDeserializer<Email> {
+
+        EmailDeserializer() {
+            super(Email.class);
+        }
+
+        @Override
+        public Email deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            String text = text(p, ctxt, Email.class);
+            try {
+                return new Email(text);
+            } catch (IllegalArgumentException e) {
+                throw ctxt.weirdStringException(text, Email.class, "not a valid email");
+            }
+        }
+    }
+
+    private static String text(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        if (!p.hasToken(JsonToken.VALUE_STRING)) {
+            return (String) ctxt.handleUnexpectedToken(type, p);
+        }
+        return p.getText();
+    }
+}
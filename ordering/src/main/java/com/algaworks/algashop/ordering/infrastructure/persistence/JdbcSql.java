@@ -0,0 +1,37 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence;
+
+public final class JdbcSql {
+
+    private JdbcSql() {
+    }
+
+    public static String placeholders(int count) {
+        return "(" + "?, ".repeat(count - 1) + "?)";
+    }
+
+    public static String insert(String table, String[] columns) {
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES " + placeholders(columns.length);
+    }
+
+    public static String update(String table, String[] columns) {
+        return update(table, columns, null);
+    }
+
+    public static String update(String table, String[] columns, String versionColumn) {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(table).append(" SET ");
+        for (int i = 0; i < columns.length - 1; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(columns[i]).append(" = ?");
+        }
+        if (versionColumn != null) {
+            sql.append(", ").append(versionColumn).append(" = ").append(versionColumn).append(" + 1");
+        }
+        sql.append(" WHERE ").append(columns[columns.length - 1]).append(" = ?");
+        if (versionColumn != null) {
+            sql.append(" AND ").append(versionColumn).append(" = ?");
+        }
+        return sql.toString();
+    }
+}
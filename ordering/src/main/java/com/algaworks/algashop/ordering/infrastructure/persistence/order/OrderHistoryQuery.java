@@ -0,0 +1,51 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Component
+public class OrderHistoryQuery {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderHistoryQuery(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    public Optional<OrderId> forEach(CustomerId customerId, OrderId before, int pageSize,
+                                     Consumer<OrderSummary> consumer) {
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(consumer);
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        OrderId[] last = new OrderId[1];
+        int[] count = new int[1];
+        RowCallbackHandler handler = rs -> {
+            if (++count[0] > pageSize) {
+                return;
+            }
+            OrderSummary summary = OrderRows.orderSummary(rs);
+            last[0] = summary.id();
+            consumer.accept(summary);
+        };
+        if (before == null) {
+            this.jdbcTemplate.query(OrderRows.SELECT_CUSTOMER_ORDERS, handler,
+                    customerId.value(), pageSize + 1);
+        } else {
+            this.jdbcTemplate.query(OrderRows.SELECT_CUSTOMER_ORDERS_BEFORE, handler,
+                    customerId.value(), before.value().toLong(), pageSize + 1);
+        }
+        return count[0] > pageSize ? Optional.of(last[0]) : Optional.empty();
+    }
+}
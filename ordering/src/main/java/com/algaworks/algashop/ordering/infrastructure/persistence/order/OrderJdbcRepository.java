@@ -0,0 +1,201 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.OrderItem;
+import com.algaworks.algashop.ordering.domain.event.DomainEventPublisher;
+import com.algaworks.algashop.ordering.domain.repository.OrderRepository;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderItemId;
+import com.algaworks.algashop.ordering.infrastructure.persistence.JdbcSql;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+@Component
+public class OrderJdbcRepository implements OrderRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventPublisher domainEventPublisher;
+    private final OrderSnapshots snapshots = new OrderSnapshots();
+
+    public OrderJdbcRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               DomainEventPublisher domainEventPublisher) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.domainEventPublisher = Objects.requireNonNull(domainEventPublisher);
+    }
+
+    @Override
+    public Optional<Order> ofId(OrderId orderId) {
+        Objects.requireNonNull(orderId);
+        Map<OrderId, Long> versions = new HashMap<>();
+        Order order = this.load(List.of(orderId), versions).get(orderId);
+        if (order != null) {
+            this.snapshots.put(order, OrderSnapshot.of(order, versions.get(orderId)));
+        }
+        return Optional.ofNullable(order);
+    }
+
+    @Override
+    public boolean exists(OrderId orderId) {
+        Objects.requireNonNull(orderId);
+        Long count = this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE id = ?", Long.class, orderId.value().toLong());
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void add(Order order) {
+        Objects.requireNonNull(order);
+        this.addAll(List.of(order));
+    }
+
+    @Override
+    public void addAll(Collection<Order> orders) {
+        Objects.requireNonNull(orders);
+        if (orders.isEmpty()) {
+            return;
+        }
+        Map<Order, OrderSnapshot> written;
+        try {
+            written = this.transactionTemplate.execute(status -> this.write(orders));
+        } catch (OptimisticLockingFailureException e) {
+            orders.forEach(this.snapshots::remove);
+            throw e;
+        }
+        if (written != null) {
+            written.forEach(this.snapshots::put);
+        }
+        for (Order order : orders) {
+            this.domainEventPublisher.publishAll(order.pullDomainEvents());
+        }
+    }
+
+    @Override
+    public long count() {
+        Long count = this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private Map<Order, OrderSnapshot> write(Collection<Order> orders) {
+        Map<Order, OrderSnapshot> previous = this.previousSnapshots(orders);
+        Map<Order, OrderSnapshot> written = new IdentityHashMap<>(orders.size());
+
+        List<Object[]> orderInserts = new ArrayList<>();
+        List<Object[]> orderUpdates = new ArrayList<>();
+        List<Object[]> versionIncrements = new ArrayList<>();
+        List<Object[]> itemInserts = new ArrayList<>();
+        List<Object[]> itemUpdates = new ArrayList<>();
+        List<Object[]> itemDeletes = new ArrayList<>();
+
+        for (Order order : orders) {
+            OrderSnapshot before = previous.get(order);
+            OrderSnapshot current = OrderSnapshot.of(order, before == null ? 0 : before.version());
+
+            if (before == null) {
+                orderInserts.add(current.orderRow());
+                itemInserts.addAll(current.itemRows().values());
+                written.put(order, current);
+                continue;
+            }
+
+            int pendingItemRows = itemInserts.size() + itemUpdates.size() + itemDeletes.size();
+            for (Map.Entry<OrderItemId, Object[]> item : current.itemRows().entrySet()) {
+                Object[] beforeRow = before.itemRows().get(item.getKey());
+                if (beforeRow == null) {
+                    itemInserts.add(item.getValue());
+                } else if (!Arrays.equals(beforeRow, item.getValue())) {
+                    itemUpdates.add(item.getValue());
+                }
+            }
+            for (OrderItemId orderItemId : before.itemRows().keySet()) {
+                if (!current.itemRows().containsKey(orderItemId)) {
+                    itemDeletes.add(new Object[]{orderItemId.value().toLong()});
+                }
+            }
+            boolean itemsChanged = itemInserts.size() + itemUpdates.size() + itemDeletes.size() > pendingItemRows;
+
+            if (!Arrays.equals(before.orderRow(), current.orderRow())) {
+                orderUpdates.add(OrderRows.versioned(current.orderRow(), before.version()));
+            } else if (itemsChanged) {
+                versionIncrements.add(new Object[]{order.id().value().toLong(), before.version()});
+            } else {
+                written.put(order, current);
+                continue;
+            }
+            written.put(order, current.withVersion(before.version() + 1));
+        }
+
+        this.batch(OrderRows.INSERT_ORDER, orderInserts);
+        this.batch(OrderRows.UPDATE_ORDER, orderUpdates);
+        this.batch(OrderRows.INCREMENT_ORDER_VERSION, versionIncrements);
+        this.batch(OrderRows.DELETE_ITEM, itemDeletes);
+        this.batch(OrderRows.INSERT_ITEM, itemInserts);
+        this.batch(OrderRows.UPDATE_ITEM, itemUpdates);
+
+        return written;
+    }
+
+    private Map<Order, OrderSnapshot> previousSnapshots(Collection<Order> orders) {
+        Map<Order, OrderSnapshot> previous = new IdentityHashMap<>(orders.size());
+        Map<OrderId, Order> missing = new LinkedHashMap<>();
+        for (Order order : orders) {
+            Objects.requireNonNull(order);
+            OrderSnapshot snapshot = this.snapshots.get(order);
+            if (snapshot != null) {
+                previous.put(order, snapshot);
+            } else {
+                missing.put(order.id(), order);
+            }
+        }
+        Map<OrderId, Long> versions = new HashMap<>();
+        this.load(new ArrayList<>(missing.keySet()), versions).forEach((orderId, stored) ->
+                previous.put(missing.get(orderId), OrderSnapshot.of(stored, versions.get(orderId))));
+        return previous;
+    }
+
+    private Map<OrderId, Order> load(List<OrderId> orderIds, Map<OrderId, Long> versions) {
+        Map<OrderId, Order> orders = new LinkedHashMap<>();
+        for (int from = 0; from < orderIds.size(); from += BATCH_SIZE) {
+            List<OrderId> chunk = orderIds.subList(from, Math.min(from + BATCH_SIZE, orderIds.size()));
+            Object[] ids = chunk.stream().map(orderId -> orderId.value().toLong()).toArray();
+            String in = JdbcSql.placeholders(ids.length);
+
+            Map<OrderId, Set<OrderItem>> items = new HashMap<>();
+            this.jdbcTemplate.query(OrderRows.SELECT_ITEMS + in, rs -> {
+                items.computeIfAbsent(OrderRows.itemOrderId(rs), orderId -> new LinkedHashSet<>())
+                        .add(OrderRows.orderItem(rs));
+            }, ids);
+
+            this.jdbcTemplate.query(OrderRows.SELECT_ORDERS + in, rs -> {
+                OrderId orderId = OrderRows.orderId(rs);
+                orders.put(orderId, OrderRows.order(rs, items.getOrDefault(orderId, new LinkedHashSet<>())));
+                versions.put(orderId, OrderRows.version(rs));
+            }, ids);
+        }
+        return orders;
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int[][] counts = this.jdbcTemplate.batchUpdate(sql, rows, BATCH_SIZE,
+                (ps, row) -> new ArgumentPreparedStatementSetter(row).setValues(ps));
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                if (count != 1) {
+                    throw new OptimisticLockingFailureException(
+                            "Expected one row affected by [" + sql + "] but got " + count);
+                }
+            }
+        }
+    }
+}
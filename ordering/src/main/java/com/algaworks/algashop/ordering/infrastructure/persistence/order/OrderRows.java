@@ -0,0 +1,232 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.OrderItem;
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.entity.PaymentMethod;
+import com.algaworks.algashop.ordering.domain.valueobject.*;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderItemId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import com.algaworks.algashop.ordering.infrastructure.persistence.JdbcSql;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+
+final class OrderRows {
+
+    private static final String[] ORDER_COLUMNS = {
+            "customer_id", "total_amount", "total_items",
+            "placed_at", "paid_at", "canceled_at", "ready_at",
+            "status", "payment_method",
+            "billing_first_name", "billing_last_name", "billing_document", "billing_phone", "billing_email",
+            "billing_street", "billing_complement", "billing_neighborhood", "billing_number",
+            "billing_city", "billing_state", "billing_zip_code",
+            "shipping_cost", "shipping_expected_date",
+            "shipping_recipient_first_name", "shipping_recipient_last_name",
+            "shipping_recipient_document", "shipping_recipient_phone",
+            "shipping_street", "shipping_complement", "shipping_neighborhood", "shipping_number",
+            "shipping_city", "shipping_state", "shipping_zip_code",
+            "id"
+    };
+
+    private static final String[] ITEM_COLUMNS = {
+            "order_id", "product_id", "product_name", "price", "quantity", "total_amount",
+            "id"
+    };
+
+    static final String INSERT_ORDER = JdbcSql.insert("orders", ORDER_COLUMNS);
+    static final String UPDATE_ORDER = JdbcSql.update("orders", ORDER_COLUMNS, "version");
+    static final String INCREMENT_ORDER_VERSION = "UPDATE orders SET version = version + 1 WHERE id = ? AND version = ?";
+    static final String SELECT_ORDERS = "SELECT " + String.join(", ", ORDER_COLUMNS)
+            + ", version FROM orders WHERE id IN ";
+
+    private static final String SELECT_ORDER_SUMMARIES = "SELECT id, status, total_amount, total_items,"
+            + " placed_at, paid_at, canceled_at, ready_at FROM orders WHERE customer_id = ?";
+    static final String SELECT_CUSTOMER_ORDERS = SELECT_ORDER_SUMMARIES + " ORDER BY id DESC LIMIT ?";
+    static final String SELECT_CUSTOMER_ORDERS_BEFORE = SELECT_ORDER_SUMMARIES + " AND id < ? ORDER BY id DESC LIMIT ?";
+
+    static final String INSERT_ITEM = JdbcSql.insert("order_item", ITEM_COLUMNS);
+    static final String UPDATE_ITEM = JdbcSql.update("order_item", ITEM_COLUMNS);
+    static final String DELETE_ITEM = "DELETE FROM order_item WHERE id = ?";
+    static final String SELECT_ITEMS = "SELECT " + String.join(", ", ITEM_COLUMNS) + " FROM order_item WHERE order_id IN ";
+
+    private OrderRows() {
+    }
+
+    static Object[] orderRow(Order order) {
+        Billing billing = order.billing();
+        Shipping shipping = order.shipping();
+        Object[] row = new Object[ORDER_COLUMNS.length];
+        int i = 0;
+        row[i++] = order.customerId().value();
+        row[i++] = order.totalAmount().value();
+        row[i++] = order.totalItems().value();
+        row[i++] = order.placedAt();
+        row[i++] = order.paidAt();
+        row[i++] = order.canceledAt();
+        row[i++] = order.readyAt();
+        row[i++] = order.status().name();
+        row[i++] = order.paymentMethod() == null ? null : order.paymentMethod().name();
+        if (billing != null) {
+            row[i++] = billing.fullName().firstName();
+            row[i++] = billing.fullName().lastName();
+            row[i++] = billing.document().value();
+            row[i++] = billing.phone().value();
+            row[i++] = billing.email().value();
+            i = writeAddress(row, i, billing.address());
+        } else {
+            i += 12;
+        }
+        if (shipping != null) {
+            row[i++] = shipping.cost().value();
+            row[i++] = shipping.expectedDate();
+            row[i++] = shipping.recipient().fullName().firstName();
+            row[i++] = shipping.recipient().fullName().lastName();
+            row[i++] = shipping.recipient().document().value();
+            row[i++] = shipping.recipient().phone().value();
+            i = writeAddress(row, i, shipping.address());
+        } else {
+            i += 13;
+        }
+        row[i] = order.id().value().toLong();
+        return row;
+    }
+
+    static Object[] itemRow(OrderItem orderItem) {
+        return new Object[]{
+                orderItem.orderId().value().toLong(),
+                orderItem.productId().value(),
+                orderItem.productName().value(),
+                orderItem.price().value(),
+                orderItem.quantity().value(),
+                orderItem.totalAmount().value(),
+                orderItem.id().value().toLong()
+        };
+    }
+
+    static Object[] versioned(Object[] row, long version) {
+        Object[] versioned = Arrays.copyOf(row, row.length + 1);
+        versioned[row.length] = version;
+        return versioned;
+    }
+
+    static long version(ResultSet rs) throws SQLException {
+        return rs.getLong("version");
+    }
+
+    static OrderId orderId(ResultSet rs) throws SQLException {
+        return new OrderId(rs.getLong("id"));
+    }
+
+    static OrderId itemOrderId(ResultSet rs) throws SQLException {
+        return new OrderId(rs.getLong("order_id"));
+    }
+
+    static Order order(ResultSet rs, Set<OrderItem> items) throws SQLException {
+        String paymentMethod = rs.getString("payment_method");
+        return Order.existing()
+                .id(orderId(rs))
+                .customerId(new CustomerId(rs.getObject("customer_id", UUID.class)))
+                .totalAmount(new Money(rs.getBigDecimal("total_amount")))
+                .totalItems(Quantity.of(rs.getInt("total_items")))
+                .placedAt(rs.getObject("placed_at", OffsetDateTime.class))
+                .paidAt(rs.getObject("paid_at", OffsetDateTime.class))
+                .canceledAt(rs.getObject("canceled_at", OffsetDateTime.class))
+                .readyAt(rs.getObject("ready_at", OffsetDateTime.class))
+                .status(OrderStatus.valueOf(rs.getString("status")))
+                .paymentMethod(paymentMethod == null ? null : PaymentMethod.valueOf(paymentMethod))
+                .billing(billing(rs))
+                .shipping(shipping(rs))
+                .items(items)
+                .build();
+    }
+
+    static OrderSummary orderSummary(ResultSet rs) throws SQLException {
+        return new OrderSummary(
+                orderId(rs),
+                OrderStatus.valueOf(rs.getString("status")),
+                new Money(rs.getBigDecimal("total_amount")),
+                Quantity.of(rs.getInt("total_items")),
+                rs.getObject("placed_at", OffsetDateTime.class),
+                rs.getObject("paid_at", OffsetDateTime.class),
+                rs.getObject("canceled_at", OffsetDateTime.class),
+                rs.getObject("ready_at", OffsetDateTime.class)
+        );
+    }
+
+    static OrderItem orderItem(ResultSet rs) throws SQLException {
+        return OrderItem.existing()
+                .id(new OrderItemId(rs.getLong("id")))
+                .orderId(itemOrderId(rs))
+                .productId(new ProductId(rs.getObject("product_id", UUID.class)))
+                .productName(new ProductName(rs.getString("product_name")))
+                .price(new Money(rs.getBigDecimal("price")))
+                .quantity(Quantity.of(rs.getInt("quantity")))
+                .totalAmount(new Money(rs.getBigDecimal("total_amount")))
+                .build();
+    }
+
+    private static Billing billing(ResultSet rs) throws SQLException {
+        String firstName = rs.getString("billing_first_name");
+        if (firstName == null) {
+            return null;
+        }
+        return Billing.builder()
+                .fullName(new FullName(firstName, rs.getString("billing_last_name")))
+                .document(new Document(rs.getString("billing_document")))
+                .phone(new Phone(rs.getString("billing_phone")))
+                .email(Email.trusted(rs.getString("billing_email")))
+                .address(address(rs, "billing_"))
+                .build();
+    }
+
+    private static Shipping shipping(ResultSet rs) throws SQLException {
+        BigDecimal cost = rs.getBigDecimal("shipping_cost");
+        if (cost == null) {
+            return null;
+        }
+        return Shipping.builder()
+                .cost(new Money(cost))
+                .expectedDate(rs.getObject("shipping_expected_date", LocalDate.class))
+                .recipient(Recipient.builder()
+                        .fullName(new FullName(
+                                rs.getString("shipping_recipient_first_name"),
+                                rs.getString("shipping_recipient_last_name")))
+                        .document(new Document(rs.getString("shipping_recipient_document")))
+                        .phone(new Phone(rs.getString("shipping_recipient_phone")))
+                        .build())
+                .address(address(rs, "shipping_"))
+                .build();
+    }
+
+    private static Address address(ResultSet rs, String prefix) throws SQLException {
+        return Address.builder()
+                .street(rs.getString(prefix + "street"))
+                .complement(rs.getString(prefix + "complement"))
+                .neighborhood(rs.getString(prefix + "neighborhood"))
+                .number(rs.getString(prefix + "number"))
+                .city(rs.getString(prefix + "city"))
+                .state(rs.getString(prefix + "state"))
+                .zipCode(new ZipCode(rs.getString(prefix + "zip_code")))
+                .build();
+    }
+
+    private static int writeAddress(Object[] row, int i, Address address) {
+        row[i++] = address.street();
+        row[i++] = address.complement();
+        row[i++] = address.neighborhood();
+        row[i++] = address.number();
+        row[i++] = address.city();
+        row[i++] = address.state();
+        row[i++] = address.zipCode().value();
+        return i;
+    }
+}
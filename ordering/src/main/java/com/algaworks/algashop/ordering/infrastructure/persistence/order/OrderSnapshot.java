@@ -0,0 +1,23 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.OrderItem;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderItemId;
+
+import java.util.HashMap;
+import java.util.Map;
+
+record OrderSnapshot(Object[] orderRow, Map<OrderItemId, Object[]> itemRows, long version) {
+
+    static OrderSnapshot of(Order order, long version) {
+        Map<OrderItemId, Object[]> itemRows = HashMap.newHashMap(order.items().size());
+        for (OrderItem orderItem : order.items()) {
+            itemRows.put(orderItem.id(), OrderRows.itemRow(orderItem));
+        }
+        return new OrderSnapshot(OrderRows.orderRow(order), itemRows, version);
+    }
+
+    OrderSnapshot withVersion(long version) {
+        return new OrderSnapshot(this.orderRow, this.itemRows, version);
+    }
+}
@@ -0,0 +1,79 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class OrderSnapshots {
+
+    private final ReferenceQueue<Order> collected = new ReferenceQueue<>();
+    private final Map<Key, OrderSnapshot> snapshots = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    OrderSnapshot get(Order order) {
+        this.lock.lock();
+        try {
+            this.expunge();
+            return this.snapshots.get(new Key(order, null));
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    void put(Order order, OrderSnapshot snapshot) {
+        this.lock.lock();
+        try {
+            this.expunge();
+            this.snapshots.put(new Key(order, this.collected), snapshot);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    void remove(Order order) {
+        this.lock.lock();
+        try {
+            this.snapshots.remove(new Key(order, null));
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void expunge() {
+        for (Reference<? extends Order> key; (key = this.collected.poll()) != null; ) {
+            this.snapshots.remove(key);
+        }
+    }
+
+    private static final class Key extends WeakReference<Order> {
+
+        private final int hash;
+
+        private Key(Order order, ReferenceQueue<Order> queue) {
+            super(order, queue);
+            this.hash = System.identityHashCode(order);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key) || key.hash != this.hash) {
+                return false;
+            }
+            Order order = this.get();
+            return order != null && order == key.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.valueobject.Money;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+
+import java.time.OffsetDateTime;
+
+public record OrderSummary(
+        OrderId id,
+        OrderStatus status,
+        Money totalAmount,
+        Quantity totalItems,
+        OffsetDateTime placedAt,
+        OffsetDateTime paidAt,
+        OffsetDateTime canceledAt,
+        OffsetDateTime readyAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.orderlifecycle;
+
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public record OrderLifecycleEntry(OrderId orderId, OrderStatus status, OffsetDateTime occurredAt) {
+
+    public OrderLifecycleEntry {
+        Objects.requireNonNull(orderId);
+        Objects.requireNonNull(status);
+        Objects.requireNonNull(occurredAt);
+    }
+}
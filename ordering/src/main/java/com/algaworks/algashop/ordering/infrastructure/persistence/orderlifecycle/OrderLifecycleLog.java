@@ -0,0 +1,136 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.orderlifecycle;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class OrderLifecycleLog implements AutoCloseable {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FileChannel writerLockChannel;
+    private MappedByteBuffer segment;
+    private long segmentIndex;
+    private int position;
+    private boolean closed;
+
+    public OrderLifecycleLog(Path directory, int segmentSize) {
+        this.directory = Objects.requireNonNull(directory);
+        this.segmentSize = OrderLifecycleSegments.validateSegmentSize(segmentSize);
+        try {
+            Files.createDirectories(directory);
+            this.writerLockChannel = lockWriter(directory);
+            this.segmentIndex = OrderLifecycleSegments.lastSegment(directory).orElse(0);
+            this.segment = OrderLifecycleSegments.map(
+                    OrderLifecycleSegments.segmentPath(directory, this.segmentIndex), segmentSize, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        while (this.position < segmentSize && OrderLifecycleSegments.isCommitted(this.segment, this.position)) {
+            this.position += OrderLifecycleSegments.RECORD_SIZE;
+        }
+    }
+
+    public void append(Order order) {
+        Objects.requireNonNull(order);
+        OffsetDateTime occurredAt = switch (order.status()) {
+            case PLACED -> order.placedAt();
+            case PAID -> order.paidAt();
+            case READY -> order.readyAt();
+            case CANCELED -> order.canceledAt();
+            case DRAFT -> null;
+        };
+        this.append(order.id(), order.status(), occurredAt != null ? occurredAt : OffsetDateTime.now());
+    }
+
+    public void append(OrderId orderId, OrderStatus status, OffsetDateTime occurredAt) {
+        Objects.requireNonNull(orderId);
+        Objects.requireNonNull(status);
+        Objects.requireNonNull(occurredAt);
+        long epochMicros = OrderLifecycleSegments.toEpochMicros(occurredAt);
+        this.lock.lock();
+        try {
+            if (this.closed) {
+                throw new IllegalStateException("Order lifecycle log is closed");
+            }
+            if (this.position == this.segmentSize) {
+                this.roll();
+            }
+            OrderLifecycleSegments.write(this.segment, this.position, orderId.value().toLong(), status.ordinal(),
+                    epochMicros);
+            this.position += OrderLifecycleSegments.RECORD_SIZE;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void force() {
+        this.lock.lock();
+        try {
+            if (!this.closed) {
+                this.segment.force();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+            this.segment.force();
+            this.closed = true;
+            this.writerLockChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private static FileChannel lockWriter(Path directory) throws IOException {
+        FileChannel channel = FileChannel.open(OrderLifecycleSegments.writerLockPath(directory),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock writerLock;
+        try {
+            writerLock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            writerLock = null;
+        }
+        if (writerLock == null) {
+            channel.close();
+            throw new IllegalStateException("Order lifecycle log " + directory + " is already open for writing");
+        }
+        return channel;
+    }
+
+    private void roll() {
+        this.segment.force();
+        try {
+            this.segment = OrderLifecycleSegments.map(
+                    OrderLifecycleSegments.segmentPath(this.directory, this.segmentIndex + 1), this.segmentSize, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.segmentIndex++;
+        this.position = 0;
+    }
+}
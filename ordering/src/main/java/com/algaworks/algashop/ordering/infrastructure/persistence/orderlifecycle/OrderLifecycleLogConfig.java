@@ -0,0 +1,24 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.orderlifecycle;
+
+import com.algaworks.algashop.ordering.infrastructure.utility.TsidProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "algashop.ordering.order-lifecycle-log", name = "directory")
+@EnableConfigurationProperties(OrderLifecycleLogProperties.class)
+public class OrderLifecycleLogConfig {
+
+    @Bean
+    public OrderLifecycleLog orderLifecycleLog(OrderLifecycleLogProperties properties, TsidProperties tsidProperties) {
+        return new OrderLifecycleLog(properties.directory().resolve("node-" + tsidProperties.nodeId()),
+                properties.segmentSize());
+    }
+
+    @Bean
+    public OrderLifecycleLogHandler orderLifecycleLogHandler(OrderLifecycleLog orderLifecycleLog) {
+        return new OrderLifecycleLogHandler(orderLifecycleLog);
+    }
+}
@@ -0,0 +1,28 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.orderlifecycle;
+
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.event.*;
+import com.algaworks.algashop.ordering.infrastructure.event.DomainEventHandler;
+
+import java.util.Objects;
+
+public class OrderLifecycleLogHandler implements DomainEventHandler {
+
+    private final OrderLifecycleLog lifecycleLog;
+
+    public OrderLifecycleLogHandler(OrderLifecycleLog orderLifecycleLog) {
+        this.lifecycleLog = Objects.requireNonNull(orderLifecycleLog);
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        switch (event) {
+            case OrderPlacedEvent e -> this.lifecycleLog.append(e.orderId(), OrderStatus.PLACED, e.occurredAt());
+            case OrderPaidEvent e -> this.lifecycleLog.append(e.orderId(), OrderStatus.PAID, e.occurredAt());
+            case OrderReadyEvent e -> this.lifecycleLog.append(e.orderId(), OrderStatus.READY, e.occurredAt());
+            case OrderCanceledEvent e -> this.lifecycleLog.append(e.orderId(), OrderStatus.CANCELED, e.occurredAt());
+            default -> {
+            }
+        }
+    }
+}
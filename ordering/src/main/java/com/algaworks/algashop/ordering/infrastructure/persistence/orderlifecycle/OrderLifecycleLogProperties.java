@@ -0,0 +1,13 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.orderlifecycle;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties("algashop.ordering.order-lifecycle-log")
+public record OrderLifecycleLogProperties(
+        Path directory,
+        @DefaultValue("67108848") int segmentSize
+) {
+}
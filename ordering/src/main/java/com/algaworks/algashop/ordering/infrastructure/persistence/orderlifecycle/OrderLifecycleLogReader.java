@@ -0,0 +1,62 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.orderlifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class OrderLifecycleLogReader {
+
+    private final Path directory;
+    private final int segmentSize;
+    private MappedByteBuffer segment;
+    private long segmentIndex;
+    private int position;
+
+    public OrderLifecycleLogReader(Path directory, int segmentSize) {
+        this.directory = Objects.requireNonNull(directory);
+        this.segmentSize = OrderLifecycleSegments.validateSegmentSize(segmentSize);
+        this.segmentIndex = OrderLifecycleSegments.firstSegment(directory).orElse(0);
+    }
+
+    public int poll(Consumer<OrderLifecycleEntry> consumer, int maxEntries) {
+        Objects.requireNonNull(consumer);
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive");
+        }
+        int read = 0;
+        while (read < maxEntries) {
+            if (this.position == this.segmentSize) {
+                if (!this.openSegment(this.segmentIndex + 1)) {
+                    break;
+                }
+            } else if (this.segment == null && !this.openSegment(this.segmentIndex)) {
+                break;
+            }
+            if (!OrderLifecycleSegments.isCommitted(this.segment, this.position)) {
+                break;
+            }
+            consumer.accept(OrderLifecycleSegments.read(this.segment, this.position));
+            this.position += OrderLifecycleSegments.RECORD_SIZE;
+            read++;
+        }
+        return read;
+    }
+
+    private boolean openSegment(long index) {
+        Path path = OrderLifecycleSegments.segmentPath(this.directory, index);
+        try {
+            if (!OrderLifecycleSegments.isReadable(path, this.segmentSize)) {
+                return false;
+            }
+            this.segment = OrderLifecycleSegments.map(path, this.segmentSize, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.segmentIndex = index;
+        this.position = 0;
+        return true;
+    }
+}
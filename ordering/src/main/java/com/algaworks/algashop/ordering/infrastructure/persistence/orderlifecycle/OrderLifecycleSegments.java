@@ -0,0 +1,139 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.orderlifecycle;
+
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+/*
+ * Record layout, little endian, 24 bytes:
+ *   0  int   commit marker, status ordinal + 1 (0 = not yet written)
+ *   4  int   reserved
+ *   8  long  order id (TSID)
+ *   16 long  occurred at, epoch microseconds
+ * The marker is written last with release semantics, readers load it with acquire semantics.
+ */
+final class OrderLifecycleSegments {
+
+    static final int RECORD_SIZE = 24;
+
+    private static final int ORDER_ID_OFFSET = 8;
+    private static final int OCCURRED_AT_OFFSET = 16;
+    private static final String PREFIX = "order-lifecycle-";
+    private static final String SUFFIX = ".log";
+    private static final String WRITER_LOCK = "writer.lock";
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final VarHandle MARKER = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private OrderLifecycleSegments() {
+    }
+
+    static int validateSegmentSize(int segmentSize) {
+        if (segmentSize < RECORD_SIZE || segmentSize % RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("Segment size must be a positive multiple of " + RECORD_SIZE);
+        }
+        return segmentSize;
+    }
+
+    static Path writerLockPath(Path directory) {
+        return directory.resolve(WRITER_LOCK);
+    }
+
+    static Path segmentPath(Path directory, long segment) {
+        return directory.resolve(PREFIX + String.format("%020d", segment) + SUFFIX);
+    }
+
+    static OptionalLong firstSegment(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return OptionalLong.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(OrderLifecycleSegments::segmentIndex).filter(index -> index >= 0)
+                    .mapToLong(Long::longValue).min();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static OptionalLong lastSegment(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return OptionalLong.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(OrderLifecycleSegments::segmentIndex).filter(index -> index >= 0)
+                    .mapToLong(Long::longValue).max();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static MappedByteBuffer map(Path path, int segmentSize, boolean writable) throws IOException {
+        FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        StandardOpenOption[] options = writable
+                ? new StandardOpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ};
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            MappedByteBuffer buffer = channel.map(mode, 0, segmentSize);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    static boolean isReadable(Path path, int segmentSize) throws IOException {
+        return Files.exists(path) && Files.size(path) >= segmentSize;
+    }
+
+    static void write(ByteBuffer buffer, int position, long orderId, int statusOrdinal, long epochMicros) {
+        buffer.putLong(position + ORDER_ID_OFFSET, orderId);
+        buffer.putLong(position + OCCURRED_AT_OFFSET, epochMicros);
+        MARKER.setRelease(buffer, position, statusOrdinal + 1);
+    }
+
+    static boolean isCommitted(ByteBuffer buffer, int position) {
+        return (int) MARKER.getAcquire(buffer, position) != 0;
+    }
+
+    static OrderLifecycleEntry read(ByteBuffer buffer, int position) {
+        int marker = (int) MARKER.getAcquire(buffer, position);
+        return new OrderLifecycleEntry(
+                new OrderId(buffer.getLong(position + ORDER_ID_OFFSET)),
+                STATUSES[marker - 1],
+                fromEpochMicros(buffer.getLong(position + OCCURRED_AT_OFFSET)));
+    }
+
+    static long toEpochMicros(OffsetDateTime occurredAt) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, occurredAt.toInstant());
+    }
+
+    static OffsetDateTime fromEpochMicros(long epochMicros) {
+        return Instant.EPOCH.plus(epochMicros, ChronoUnit.MICROS).atOffset(ZoneOffset.UTC);
+    }
+
+    private static long segmentIndex(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name, PREFIX.length(), name.length() - SUFFIX.length(), 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
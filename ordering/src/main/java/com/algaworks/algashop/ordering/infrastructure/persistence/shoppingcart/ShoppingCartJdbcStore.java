@@ -0,0 +1,108 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartItem;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+import com.algaworks.algashop.ordering.infrastructure.persistence.JdbcSql;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+public class ShoppingCartJdbcStore {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ShoppingCartJdbcStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+    }
+
+    public Optional<ShoppingCart> load(ShoppingCartId shoppingCartId) {
+        Objects.requireNonNull(shoppingCartId);
+        Set<ShoppingCartItem> items = new LinkedHashSet<>(this.jdbcTemplate.query(ShoppingCartRows.SELECT_ITEMS,
+                (rs, rowNum) -> ShoppingCartRows.shoppingCartItem(rs), shoppingCartId.value()));
+        List<ShoppingCart> carts = this.jdbcTemplate.query(ShoppingCartRows.SELECT_CART,
+                (rs, rowNum) -> ShoppingCartRows.shoppingCart(rs, items), shoppingCartId.value());
+        return carts.stream().findFirst();
+    }
+
+    public boolean exists(ShoppingCartId shoppingCartId) {
+        Objects.requireNonNull(shoppingCartId);
+        Long count = this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM shopping_cart WHERE id = ?", Long.class, shoppingCartId.value());
+        return count != null && count > 0;
+    }
+
+    public long count() {
+        Long count = this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM shopping_cart", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public void forEachItem(BiConsumer<ShoppingCartId, ProductId> consumer) {
+        Objects.requireNonNull(consumer);
+        this.jdbcTemplate.query(ShoppingCartRows.SELECT_ITEM_PRODUCTS, rs -> {
+            consumer.accept(new ShoppingCartId(rs.getObject("shopping_cart_id", UUID.class)),
+                    new ProductId(rs.getObject("product_id", UUID.class)));
+        });
+    }
+
+    void saveAll(Collection<ShoppingCartSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        this.transactionTemplate.executeWithoutResult(status -> this.write(snapshots));
+    }
+
+    private void write(Collection<ShoppingCartSnapshot> snapshots) {
+        Set<UUID> existing = this.existingIds(snapshots);
+
+        List<Object[]> cartInserts = new ArrayList<>();
+        List<Object[]> cartUpdates = new ArrayList<>();
+        List<Object[]> itemDeletes = new ArrayList<>();
+        List<Object[]> itemInserts = new ArrayList<>();
+
+        for (ShoppingCartSnapshot snapshot : snapshots) {
+            if (existing.contains(snapshot.id().value())) {
+                cartUpdates.add(snapshot.cartRow());
+                itemDeletes.add(new Object[]{snapshot.id().value()});
+            } else {
+                cartInserts.add(snapshot.cartRow());
+            }
+            itemInserts.addAll(snapshot.itemRows());
+        }
+
+        this.batch(ShoppingCartRows.INSERT_CART, cartInserts);
+        this.batch(ShoppingCartRows.UPDATE_CART, cartUpdates);
+        this.batch(ShoppingCartRows.DELETE_ITEMS, itemDeletes);
+        this.batch(ShoppingCartRows.INSERT_ITEM, itemInserts);
+    }
+
+    private Set<UUID> existingIds(Collection<ShoppingCartSnapshot> snapshots) {
+        List<ShoppingCartSnapshot> all = new ArrayList<>(snapshots);
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < all.size(); from += BATCH_SIZE) {
+            Object[] ids = all.subList(from, Math.min(from + BATCH_SIZE, all.size())).stream()
+                    .map(snapshot -> snapshot.id().value())
+                    .toArray();
+            existing.addAll(this.jdbcTemplate.query(
+                    ShoppingCartRows.SELECT_EXISTING_CART_IDS + JdbcSql.placeholders(ids.length),
+                    (rs, rowNum) -> rs.getObject("id", UUID.class), ids));
+        }
+        return existing;
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(sql, rows, BATCH_SIZE,
+                (ps, row) -> new ArgumentPreparedStatementSetter(row).setValues(ps));
+    }
+}
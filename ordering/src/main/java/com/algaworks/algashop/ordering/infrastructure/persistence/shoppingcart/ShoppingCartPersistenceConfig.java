@@ -0,0 +1,42 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.event.DomainEventPublisher;
+import com.algaworks.algashop.ordering.infrastructure.utility.BackgroundThreads;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(ShoppingCartWriteBehindProperties.class)
+public class ShoppingCartPersistenceConfig {
+
+    @Bean
+    public ShoppingCartJdbcStore shoppingCartJdbcStore(JdbcTemplate jdbcTemplate,
+                                                       TransactionTemplate transactionTemplate) {
+        return new ShoppingCartJdbcStore(jdbcTemplate, transactionTemplate);
+    }
+
+    @Bean
+    public WriteBehindShoppingCartRepository shoppingCartRepository(ShoppingCartJdbcStore store,
+                                                                    ShoppingCartWriteBehindProperties properties,
+                                                                    DomainEventPublisher domainEventPublisher,
+                                                                    Environment environment) {
+        return new WriteBehindShoppingCartRepository(store, properties.flushInterval(), properties.idleTimeout(),
+                domainEventPublisher, BackgroundThreads.factory(environment, "shopping-cart-write-behind"));
+    }
+
+    @Bean
+    public ShoppingCartProductIndex shoppingCartProductIndex(ShoppingCartJdbcStore store) {
+        ShoppingCartProductIndex index = new ShoppingCartProductIndex();
+        store.forEachItem(index::add);
+        return index;
+    }
+
+    @Bean
+    public ShoppingCartProductIndexHandler shoppingCartProductIndexHandler(ShoppingCartProductIndex index) {
+        return new ShoppingCartProductIndexHandler(index);
+    }
+}
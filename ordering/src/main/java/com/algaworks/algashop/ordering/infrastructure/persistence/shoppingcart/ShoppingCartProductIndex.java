@@ -0,0 +1,304 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartItem;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class ShoppingCartProductIndex {
+
+    private static final int[] EMPTY = new int[0];
+    private static final int INLINE_PRODUCTS = 4;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final UuidOrdinals cartOrdinals = new UuidOrdinals();
+    private int[] inlineProductsByCart = new int[0];
+    private int[][] overflowProductsByCart = new int[0][];
+    private int[] productCountByCart = new int[0];
+
+    private final UuidOrdinals productOrdinals = new UuidOrdinals();
+    private int[][] cartsByProduct = new int[0][];
+    private int[] cartCountByProduct = new int[0];
+
+    private long entries;
+
+    public void index(ShoppingCart shoppingCart) {
+        Objects.requireNonNull(shoppingCart);
+        lock.writeLock().lock();
+        try {
+            if (shoppingCart.isEmpty()) {
+                this.removeCartUnlocked(shoppingCart.id());
+                return;
+            }
+
+            int cart = this.internCart(shoppingCart.id());
+            int[] current = new int[shoppingCart.items().size()];
+            int count = 0;
+            for (ShoppingCartItem item : shoppingCart.items()) {
+                current[count++] = this.internProduct(item.productId());
+            }
+
+            for (int i = this.productCountByCart[cart] - 1; i >= 0; i--) {
+                int product = this.productAt(cart, i);
+                if (!contains(current, count, product)) {
+                    this.unlink(cart, product);
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                this.link(cart, current[i]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void add(ShoppingCartId shoppingCartId, ProductId productId) {
+        Objects.requireNonNull(shoppingCartId);
+        Objects.requireNonNull(productId);
+        lock.writeLock().lock();
+        try {
+            this.link(this.internCart(shoppingCartId), this.internProduct(productId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(ShoppingCartId shoppingCartId, ProductId productId) {
+        Objects.requireNonNull(shoppingCartId);
+        Objects.requireNonNull(productId);
+        lock.writeLock().lock();
+        try {
+            int cart = this.cartOrdinals.ordinalOf(shoppingCartId.value());
+            int product = this.productOrdinals.ordinalOf(productId.value());
+            if (cart < 0 || product < 0) {
+                return;
+            }
+            this.unlink(cart, product);
+            if (this.productCountByCart[cart] == 0) {
+                this.releaseCart(cart);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeCart(ShoppingCartId shoppingCartId) {
+        Objects.requireNonNull(shoppingCartId);
+        lock.writeLock().lock();
+        try {
+            this.removeCartUnlocked(shoppingCartId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<ShoppingCartId> cartsContaining(ProductId productId) {
+        Objects.requireNonNull(productId);
+        lock.readLock().lock();
+        try {
+            int product = this.productOrdinals.ordinalOf(productId.value());
+            if (product < 0) {
+                return List.of();
+            }
+            int count = this.cartCountByProduct[product];
+            int[] postings = this.cartsByProduct[product];
+            List<ShoppingCartId> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(new ShoppingCartId(this.cartOrdinals.uuid(postings[i])));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<ShoppingCartId> cartsContaining(Collection<ProductId> productIds) {
+        Objects.requireNonNull(productIds);
+        lock.readLock().lock();
+        try {
+            Set<ShoppingCartId> result = new LinkedHashSet<>();
+            for (ProductId productId : productIds) {
+                int product = this.productOrdinals.ordinalOf(Objects.requireNonNull(productId).value());
+                if (product < 0) {
+                    continue;
+                }
+                int[] postings = this.cartsByProduct[product];
+                for (int i = 0; i < this.cartCountByProduct[product]; i++) {
+                    result.add(new ShoppingCartId(this.cartOrdinals.uuid(postings[i])));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int cartCount() {
+        lock.readLock().lock();
+        try {
+            return this.cartOrdinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long entryCount() {
+        lock.readLock().lock();
+        try {
+            return this.entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long footprintBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = this.cartOrdinals.footprintBytes() + this.productOrdinals.footprintBytes();
+            bytes += 4L * this.inlineProductsByCart.length + 8L * this.productCountByCart.length;
+            bytes += 8L * this.cartsByProduct.length;
+            for (int[] overflow : this.overflowProductsByCart) {
+                bytes += overflow == null ? 0 : 16L + 4L * overflow.length;
+            }
+            for (int[] postings : this.cartsByProduct) {
+                bytes += postings == null || postings == EMPTY ? 0 : 16L + 4L * postings.length;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeCartUnlocked(ShoppingCartId shoppingCartId) {
+        int cart = this.cartOrdinals.ordinalOf(shoppingCartId.value());
+        if (cart < 0) {
+            return;
+        }
+        for (int i = this.productCountByCart[cart] - 1; i >= 0; i--) {
+            this.unlink(cart, this.productAt(cart, i));
+        }
+        this.releaseCart(cart);
+    }
+
+    private void link(int cart, int product) {
+        int[] postings = this.cartsByProduct[product];
+        int count = this.cartCountByProduct[product];
+        int position = Arrays.binarySearch(postings, 0, count, cart);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+        if (count == postings.length) {
+            postings = Arrays.copyOf(postings, grow(count));
+            this.cartsByProduct[product] = postings;
+        }
+        System.arraycopy(postings, position, postings, position + 1, count - position);
+        postings[position] = cart;
+        this.cartCountByProduct[product] = count + 1;
+
+        this.appendProduct(cart, product);
+        this.entries++;
+    }
+
+    private void unlink(int cart, int product) {
+        int[] postings = this.cartsByProduct[product];
+        int count = this.cartCountByProduct[product];
+        int position = Arrays.binarySearch(postings, 0, count, cart);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(postings, position + 1, postings, position, count - position - 1);
+        this.cartCountByProduct[product] = count - 1;
+        if (count - 1 == 0) {
+            this.cartsByProduct[product] = EMPTY;
+            this.productOrdinals.release(product);
+        }
+
+        int cartCount = this.productCountByCart[cart];
+        for (int i = 0; i < cartCount; i++) {
+            if (this.productAt(cart, i) == product) {
+                this.setProductAt(cart, i, this.productAt(cart, cartCount - 1));
+                break;
+            }
+        }
+        this.productCountByCart[cart] = cartCount - 1;
+
+        this.entries--;
+    }
+
+    private int productAt(int cart, int i) {
+        int[] overflow = this.overflowProductsByCart[cart];
+        return overflow != null ? overflow[i] : this.inlineProductsByCart[cart * INLINE_PRODUCTS + i];
+    }
+
+    private void setProductAt(int cart, int i, int product) {
+        int[] overflow = this.overflowProductsByCart[cart];
+        if (overflow != null) {
+            overflow[i] = product;
+        } else {
+            this.inlineProductsByCart[cart * INLINE_PRODUCTS + i] = product;
+        }
+    }
+
+    private void appendProduct(int cart, int product) {
+        int count = this.productCountByCart[cart];
+        int[] overflow = this.overflowProductsByCart[cart];
+        if (overflow == null && count == INLINE_PRODUCTS) {
+            overflow = Arrays.copyOfRange(this.inlineProductsByCart,
+                    cart * INLINE_PRODUCTS, cart * INLINE_PRODUCTS + grow(count));
+            this.overflowProductsByCart[cart] = overflow;
+        } else if (overflow != null && count == overflow.length) {
+            overflow = Arrays.copyOf(overflow, grow(count));
+            this.overflowProductsByCart[cart] = overflow;
+        }
+        this.productCountByCart[cart] = count + 1;
+        this.setProductAt(cart, count, product);
+    }
+
+    private int internCart(ShoppingCartId shoppingCartId) {
+        int cart = this.cartOrdinals.intern(shoppingCartId.value());
+        int capacity = this.cartOrdinals.capacity();
+        if (capacity > this.productCountByCart.length) {
+            this.inlineProductsByCart = Arrays.copyOf(this.inlineProductsByCart, capacity * INLINE_PRODUCTS);
+            this.overflowProductsByCart = Arrays.copyOf(this.overflowProductsByCart, capacity);
+            this.productCountByCart = Arrays.copyOf(this.productCountByCart, capacity);
+        }
+        return cart;
+    }
+
+    private void releaseCart(int cart) {
+        this.overflowProductsByCart[cart] = null;
+        this.productCountByCart[cart] = 0;
+        this.cartOrdinals.release(cart);
+    }
+
+    private int internProduct(ProductId productId) {
+        int product = this.productOrdinals.intern(productId.value());
+        int capacity = this.productOrdinals.capacity();
+        if (capacity > this.cartsByProduct.length) {
+            int previous = this.cartsByProduct.length;
+            this.cartsByProduct = Arrays.copyOf(this.cartsByProduct, capacity);
+            this.cartCountByProduct = Arrays.copyOf(this.cartCountByProduct, capacity);
+            Arrays.fill(this.cartsByProduct, previous, capacity, EMPTY);
+        }
+        return product;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int grow(int size) {
+        return Math.max(4, size + (size >> 1));
+    }
+}
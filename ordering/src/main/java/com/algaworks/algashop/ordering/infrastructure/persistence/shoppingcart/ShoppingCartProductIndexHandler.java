@@ -0,0 +1,29 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.event.DomainEvent;
+import com.algaworks.algashop.ordering.domain.event.ShoppingCartEmptiedEvent;
+import com.algaworks.algashop.ordering.domain.event.ShoppingCartItemAddedEvent;
+import com.algaworks.algashop.ordering.domain.event.ShoppingCartItemRemovedEvent;
+import com.algaworks.algashop.ordering.infrastructure.event.DomainEventHandler;
+
+import java.util.Objects;
+
+public class ShoppingCartProductIndexHandler implements DomainEventHandler {
+
+    private final ShoppingCartProductIndex index;
+
+    public ShoppingCartProductIndexHandler(ShoppingCartProductIndex shoppingCartProductIndex) {
+        this.index = Objects.requireNonNull(shoppingCartProductIndex);
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        switch (event) {
+            case ShoppingCartItemAddedEvent e -> this.index.add(e.shoppingCartId(), e.productId());
+            case ShoppingCartItemRemovedEvent e -> this.index.remove(e.shoppingCartId(), e.productId());
+            case ShoppingCartEmptiedEvent e -> this.index.removeCart(e.shoppingCartId());
+            default -> {
+            }
+        }
+    }
+}
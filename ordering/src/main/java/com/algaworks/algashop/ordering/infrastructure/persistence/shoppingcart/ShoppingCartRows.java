@@ -0,0 +1,92 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartItem;
+import com.algaworks.algashop.ordering.domain.valueobject.Money;
+import com.algaworks.algashop.ordering.domain.valueobject.ProductName;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartItemId;
+import com.algaworks.algashop.ordering.infrastructure.persistence.JdbcSql;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+final class ShoppingCartRows {
+
+    private static final String[] CART_COLUMNS = {
+            "customer_id", "total_amount", "total_items", "created_at",
+            "id"
+    };
+
+    private static final String[] ITEM_COLUMNS = {
+            "shopping_cart_id", "product_id", "product_name", "price", "quantity", "available", "total_amount",
+            "id"
+    };
+
+    static final String INSERT_CART = JdbcSql.insert("shopping_cart", CART_COLUMNS);
+    static final String UPDATE_CART = JdbcSql.update("shopping_cart", CART_COLUMNS);
+    static final String SELECT_CART = "SELECT " + String.join(", ", CART_COLUMNS) + " FROM shopping_cart WHERE id = ?";
+    static final String SELECT_EXISTING_CART_IDS = "SELECT id FROM shopping_cart WHERE id IN ";
+
+    static final String INSERT_ITEM = JdbcSql.insert("shopping_cart_item", ITEM_COLUMNS);
+    static final String DELETE_ITEMS = "DELETE FROM shopping_cart_item WHERE shopping_cart_id = ?";
+    static final String SELECT_ITEMS = "SELECT " + String.join(", ", ITEM_COLUMNS)
+            + " FROM shopping_cart_item WHERE shopping_cart_id = ?";
+    static final String SELECT_ITEM_PRODUCTS = "SELECT shopping_cart_id, product_id FROM shopping_cart_item";
+
+    private ShoppingCartRows() {
+    }
+
+    static Object[] cartRow(ShoppingCart shoppingCart) {
+        return new Object[]{
+                shoppingCart.customerId().value(),
+                shoppingCart.totalAmount().value(),
+                shoppingCart.totalItems().value(),
+                shoppingCart.createdAt(),
+                shoppingCart.id().value()
+        };
+    }
+
+    static Object[] itemRow(ShoppingCartItem shoppingCartItem) {
+        return new Object[]{
+                shoppingCartItem.shoppingCartId().value(),
+                shoppingCartItem.productId().value(),
+                shoppingCartItem.productName().value(),
+                shoppingCartItem.price().value(),
+                shoppingCartItem.quantity().value(),
+                shoppingCartItem.isAvailable(),
+                shoppingCartItem.totalAmount().value(),
+                shoppingCartItem.id().value()
+        };
+    }
+
+    static ShoppingCart shoppingCart(ResultSet rs, Set<ShoppingCartItem> items) throws SQLException {
+        return ShoppingCart.existing()
+                .id(new ShoppingCartId(rs.getObject("id", UUID.class)))
+                .customerId(new CustomerId(rs.getObject("customer_id", UUID.class)))
+                .totalAmount(new Money(rs.getBigDecimal("total_amount")))
+                .totalItems(Quantity.of(rs.getInt("total_items")))
+                .createdAt(rs.getObject("created_at", OffsetDateTime.class))
+                .items(items)
+                .build();
+    }
+
+    static ShoppingCartItem shoppingCartItem(ResultSet rs) throws SQLException {
+        return ShoppingCartItem.existing()
+                .id(new ShoppingCartItemId(rs.getObject("id", UUID.class)))
+                .shoppingCartId(new ShoppingCartId(rs.getObject("shopping_cart_id", UUID.class)))
+                .productId(new ProductId(rs.getObject("product_id", UUID.class)))
+                .productName(new ProductName(rs.getString("product_name")))
+                .price(new Money(rs.getBigDecimal("price")))
+                .quantity(Quantity.of(rs.getInt("quantity")))
+                .available(rs.getBoolean("available"))
+                .totalAmount(new Money(rs.getBigDecimal("total_amount")))
+                .build();
+    }
+}
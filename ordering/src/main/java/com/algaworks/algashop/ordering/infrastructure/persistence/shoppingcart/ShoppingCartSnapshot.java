@@ -0,0 +1,19 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartItem;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+record ShoppingCartSnapshot(ShoppingCartId id, Object[] cartRow, List<Object[]> itemRows) {
+
+    static ShoppingCartSnapshot of(ShoppingCart shoppingCart) {
+        List<Object[]> itemRows = new ArrayList<>(shoppingCart.items().size());
+        for (ShoppingCartItem shoppingCartItem : shoppingCart.items()) {
+            itemRows.add(ShoppingCartRows.itemRow(shoppingCartItem));
+        }
+        return new ShoppingCartSnapshot(shoppingCart.id(), ShoppingCartRows.cartRow(shoppingCart), itemRows);
+    }
+}
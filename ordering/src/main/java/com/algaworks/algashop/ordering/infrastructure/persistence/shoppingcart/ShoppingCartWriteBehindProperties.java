@@ -0,0 +1,13 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("algashop.ordering.shopping-cart.write-behind")
+public record ShoppingCartWriteBehindProperties(
+        @DefaultValue("1s") Duration flushInterval,
+        @DefaultValue("10m") Duration idleTimeout
+) {
+}
@@ -0,0 +1,125 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+final class UuidOrdinals {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int FREE_SLOT = 0;
+
+    private long[] mostSigBits = new long[INITIAL_CAPACITY];
+    private long[] leastSigBits = new long[INITIAL_CAPACITY];
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int[] freeOrdinals = new int[0];
+    private int freeCount;
+    private int nextOrdinal;
+    private int size;
+
+    int ordinalOf(UUID id) {
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+        int mask = this.slots.length - 1;
+        for (int slot = hash(most, least) & mask; ; slot = (slot + 1) & mask) {
+            int stored = this.slots[slot];
+            if (stored == FREE_SLOT) {
+                return -1;
+            }
+            int ordinal = stored - 1;
+            if (this.mostSigBits[ordinal] == most && this.leastSigBits[ordinal] == least) {
+                return ordinal;
+            }
+        }
+    }
+
+    int intern(UUID id) {
+        int existing = this.ordinalOf(id);
+        if (existing >= 0) {
+            return existing;
+        }
+        int ordinal;
+        if (this.freeCount > 0) {
+            ordinal = this.freeOrdinals[--this.freeCount];
+        } else {
+            ordinal = this.nextOrdinal++;
+            if (ordinal == this.mostSigBits.length) {
+                int capacity = ordinal + (ordinal >> 1);
+                this.mostSigBits = Arrays.copyOf(this.mostSigBits, capacity);
+                this.leastSigBits = Arrays.copyOf(this.leastSigBits, capacity);
+            }
+        }
+        this.mostSigBits[ordinal] = id.getMostSignificantBits();
+        this.leastSigBits[ordinal] = id.getLeastSignificantBits();
+        if (++this.size * 2 > this.slots.length) {
+            this.rehash(this.slots.length * 2);
+        }
+        this.insertSlot(ordinal);
+        return ordinal;
+    }
+
+    void release(int ordinal) {
+        int mask = this.slots.length - 1;
+        int slot = hash(this.mostSigBits[ordinal], this.leastSigBits[ordinal]) & mask;
+        while (this.slots[slot] != ordinal + 1) {
+            slot = (slot + 1) & mask;
+        }
+        this.slots[slot] = FREE_SLOT;
+        for (int next = (slot + 1) & mask; this.slots[next] != FREE_SLOT; next = (next + 1) & mask) {
+            int stored = this.slots[next] - 1;
+            int home = hash(this.mostSigBits[stored], this.leastSigBits[stored]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                this.slots[slot] = this.slots[next];
+                this.slots[next] = FREE_SLOT;
+                slot = next;
+            }
+        }
+        this.size--;
+        if (this.freeCount == this.freeOrdinals.length) {
+            this.freeOrdinals = Arrays.copyOf(this.freeOrdinals, Math.max(4, this.freeCount + (this.freeCount >> 1)));
+        }
+        this.freeOrdinals[this.freeCount++] = ordinal;
+    }
+
+    UUID uuid(int ordinal) {
+        return new UUID(this.mostSigBits[ordinal], this.leastSigBits[ordinal]);
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    int capacity() {
+        return this.mostSigBits.length;
+    }
+
+    long footprintBytes() {
+        return 16L * this.mostSigBits.length + 4L * this.slots.length + 4L * this.freeOrdinals.length;
+    }
+
+    private void insertSlot(int ordinal) {
+        int mask = this.slots.length - 1;
+        int slot = hash(this.mostSigBits[ordinal], this.leastSigBits[ordinal]) & mask;
+        while (this.slots[slot] != FREE_SLOT) {
+            slot = (slot + 1) & mask;
+        }
+        this.slots[slot] = ordinal + 1;
+    }
+
+    private void rehash(int capacity) {
+        int[] previous = this.slots;
+        this.slots = new int[capacity];
+        for (int stored : previous) {
+            if (stored != FREE_SLOT) {
+                this.insertSlot(stored - 1);
+            }
+        }
+    }
+
+    private static int hash(long most, long least) {
+        long h = most ^ least;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,284 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartItem;
+import com.algaworks.algashop.ordering.domain.event.DomainEvent;
+import com.algaworks.algashop.ordering.domain.event.DomainEventPublisher;
+import com.algaworks.algashop.ordering.domain.repository.ShoppingCartRepository;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+public class WriteBehindShoppingCartRepository implements ShoppingCartRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindShoppingCartRepository.class);
+    private static final int CART_LOCK_STRIPES = 64;
+
+    private final ShoppingCartJdbcStore store;
+    private final DomainEventPublisher domainEventPublisher;
+    private final Map<ShoppingCartId, LiveCart> liveCarts = new ConcurrentHashMap<>();
+    private final Set<ShoppingCartId> dirtyCarts = ConcurrentHashMap.newKeySet();
+    private final long idleTimeoutNanos;
+    private final ScheduledExecutorService scheduler;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantLock[] cartLocks = new ReentrantLock[CART_LOCK_STRIPES];
+    private volatile boolean closed;
+
+    public WriteBehindShoppingCartRepository(ShoppingCartJdbcStore store, Duration flushInterval, Duration idleTimeout,
+                                             DomainEventPublisher domainEventPublisher) {
+        this(store, flushInterval, idleTimeout, domainEventPublisher,
+                Thread.ofPlatform().name("shopping-cart-write-behind").daemon().factory());
+    }
+
+    public WriteBehindShoppingCartRepository(ShoppingCartJdbcStore store, Duration flushInterval, Duration idleTimeout,
+                                             DomainEventPublisher domainEventPublisher, ThreadFactory threadFactory) {
+        Objects.requireNonNull(store);
+        Objects.requireNonNull(flushInterval);
+        Objects.requireNonNull(idleTimeout);
+        Objects.requireNonNull(domainEventPublisher);
+        Objects.requireNonNull(threadFactory);
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        if (idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("Idle timeout must not be negative");
+        }
+        this.store = store;
+        this.domainEventPublisher = domainEventPublisher;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        for (int i = 0; i < this.cartLocks.length; i++) {
+            this.cartLocks[i] = new ReentrantLock();
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long intervalMillis = Math.max(1, flushInterval.toMillis());
+        this.scheduler.scheduleWithFixedDelay(this::scheduledFlush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<ShoppingCart> ofId(ShoppingCartId shoppingCartId) {
+        Objects.requireNonNull(shoppingCartId);
+        return this.liveCart(shoppingCartId).map(live -> {
+            ReentrantLock cartLock = this.cartLock(shoppingCartId);
+            cartLock.lock();
+            try {
+                return copyOf(live.cart);
+            } finally {
+                cartLock.unlock();
+            }
+        });
+    }
+
+    @Override
+    public boolean exists(ShoppingCartId shoppingCartId) {
+        Objects.requireNonNull(shoppingCartId);
+        return this.liveCarts.containsKey(shoppingCartId) || this.store.exists(shoppingCartId);
+    }
+
+    @Override
+    public void add(ShoppingCart shoppingCart) {
+        Objects.requireNonNull(shoppingCart);
+        List<DomainEvent> events;
+        ReentrantLock cartLock = this.cartLock(shoppingCart.id());
+        cartLock.lock();
+        try {
+            events = shoppingCart.pullDomainEvents();
+            this.liveCarts.put(shoppingCart.id(), new LiveCart(copyOf(shoppingCart)));
+            this.dirtyCarts.add(shoppingCart.id());
+        } finally {
+            cartLock.unlock();
+        }
+        this.flushIfClosed();
+        this.domainEventPublisher.publishAll(events);
+    }
+
+    public boolean modify(ShoppingCartId shoppingCartId, Consumer<ShoppingCart> mutation) {
+        Objects.requireNonNull(shoppingCartId);
+        Objects.requireNonNull(mutation);
+        ReentrantLock cartLock = this.cartLock(shoppingCartId);
+        while (true) {
+            Optional<LiveCart> live = this.liveCart(shoppingCartId);
+            if (live.isEmpty()) {
+                return false;
+            }
+            List<DomainEvent> events;
+            cartLock.lock();
+            try {
+                if (this.liveCarts.get(shoppingCartId) != live.get()) {
+                    continue;
+                }
+                ShoppingCart cart = live.get().cart;
+                mutation.accept(cart);
+                events = cart.pullDomainEvents();
+                this.dirtyCarts.add(shoppingCartId);
+                live.get().touch();
+            } finally {
+                cartLock.unlock();
+            }
+            this.flushIfClosed();
+            this.domainEventPublisher.publishAll(events);
+            return true;
+        }
+    }
+
+    @Override
+    public long count() {
+        this.flush();
+        return this.store.count();
+    }
+
+    public int pendingCount() {
+        return this.dirtyCarts.size();
+    }
+
+    public int liveCount() {
+        return this.liveCarts.size();
+    }
+
+    public void flush() {
+        this.flushLock.lock();
+        try {
+            if (!this.dirtyCarts.isEmpty()) {
+                this.writeDirtyCarts();
+            }
+            this.evictIdleCarts();
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.scheduler.shutdown();
+        this.flush();
+    }
+
+    private void writeDirtyCarts() {
+        List<ShoppingCartId> flushed = new ArrayList<>(this.dirtyCarts.size());
+        List<ShoppingCartSnapshot> snapshots = new ArrayList<>(this.dirtyCarts.size());
+        for (Iterator<ShoppingCartId> iterator = this.dirtyCarts.iterator(); iterator.hasNext(); ) {
+            ShoppingCartId shoppingCartId = iterator.next();
+            iterator.remove();
+            ReentrantLock cartLock = this.cartLock(shoppingCartId);
+            cartLock.lock();
+            try {
+                snapshots.add(ShoppingCartSnapshot.of(this.liveCarts.get(shoppingCartId).cart));
+            } finally {
+                cartLock.unlock();
+            }
+            flushed.add(shoppingCartId);
+        }
+        try {
+            this.store.saveAll(snapshots);
+        } catch (RuntimeException e) {
+            this.dirtyCarts.addAll(flushed);
+            throw e;
+        }
+    }
+
+    private void evictIdleCarts() {
+        long now = System.nanoTime();
+        for (Map.Entry<ShoppingCartId, LiveCart> entry : this.liveCarts.entrySet()) {
+            if (!entry.getValue().idleSince(now, this.idleTimeoutNanos)) {
+                continue;
+            }
+            ReentrantLock cartLock = this.cartLock(entry.getKey());
+            cartLock.lock();
+            try {
+                if (!this.dirtyCarts.contains(entry.getKey()) && entry.getValue().idleSince(now, this.idleTimeoutNanos)) {
+                    this.liveCarts.remove(entry.getKey(), entry.getValue());
+                }
+            } finally {
+                cartLock.unlock();
+            }
+        }
+    }
+
+    private Optional<LiveCart> liveCart(ShoppingCartId shoppingCartId) {
+        LiveCart live = this.liveCarts.get(shoppingCartId);
+        if (live != null) {
+            live.touch();
+            return Optional.of(live);
+        }
+        return this.store.load(shoppingCartId).map(loaded -> {
+            LiveCart created = new LiveCart(loaded);
+            LiveCart current = this.liveCarts.putIfAbsent(shoppingCartId, created);
+            return current != null ? current : created;
+        });
+    }
+
+    private void scheduledFlush() {
+        try {
+            this.flush();
+        } catch (RuntimeException e) {
+            log.warn("Shopping cart write-behind flush failed, {} carts will be retried", this.dirtyCarts.size(), e);
+        }
+    }
+
+    private ReentrantLock cartLock(ShoppingCartId shoppingCartId) {
+        int hash = shoppingCartId.hashCode();
+        return this.cartLocks[(hash ^ (hash >>> 16)) & (CART_LOCK_STRIPES - 1)];
+    }
+
+    private void flushIfClosed() {
+        if (this.closed) {
+            this.flush();
+        }
+    }
+
+    private static ShoppingCart copyOf(ShoppingCart shoppingCart) {
+        Set<ShoppingCartItem> items = new LinkedHashSet<>();
+        for (ShoppingCartItem item : shoppingCart.items()) {
+            items.add(ShoppingCartItem.existing()
+                    .id(item.id())
+                    .shoppingCartId(item.shoppingCartId())
+                    .productId(item.productId())
+                    .productName(item.productName())
+                    .price(item.price())
+                    .quantity(item.quantity())
+                    .available(item.isAvailable())
+                    .totalAmount(item.totalAmount())
+                    .build());
+        }
+        return ShoppingCart.existing()
+                .id(shoppingCart.id())
+                .customerId(shoppingCart.customerId())
+                .totalAmount(shoppingCart.totalAmount())
+                .totalItems(shoppingCart.totalItems())
+                .createdAt(shoppingCart.createdAt())
+                .items(items)
+                .build();
+    }
+
+    private static final class LiveCart {
+
+        private final ShoppingCart cart;
+        private volatile long lastAccessNanos;
+
+        private LiveCart(ShoppingCart cart) {
+            this.cart = cart;
+            this.touch();
+        }
+
+        private void touch() {
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        private boolean idleSince(long now, long idleTimeoutNanos) {
+            return now - this.lastAccessNanos >= idleTimeoutNanos;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.algaworks.algashop.ordering.infrastructure.utility;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+
+public final class BackgroundThreads {
+
+    private BackgroundThreads() {
+    }
+
+    public static ThreadFactory factory(Environment environment, String name) {
+        Objects.requireNonNull(environment);
+        Objects.requireNonNull(name);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Thread.ofVirtual().name(name).factory();
+        }
+        return Thread.ofPlatform().name(name).daemon().factory();
+    }
+}
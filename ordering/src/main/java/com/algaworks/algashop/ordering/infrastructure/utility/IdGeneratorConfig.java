@@ -0,0 +1,23 @@
+package com.algaworks.algashop.ordering.infrastructure.utility;
+
+import com.algaworks.algashop.ordering.domain.utility.IdGenerator;
+import com.algaworks.algashop.ordering.domain.utility.TsidGenerator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TsidProperties.class)
+public class IdGeneratorConfig {
+
+    @Bean
+    public TsidGenerator tsidGenerator(TsidProperties properties) {
+        TsidGenerator generator = new TsidGenerator(
+                properties.nodeId(),
+                properties.nodeBits(),
+                properties.stripeBits()
+        );
+        IdGenerator.useTsidGenerator(generator);
+        return generator;
+    }
+}
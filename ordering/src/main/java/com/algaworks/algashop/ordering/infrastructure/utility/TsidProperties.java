@@ -0,0 +1,12 @@
+package com.algaworks.algashop.ordering.infrastructure.utility;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("algashop.ordering.tsid")
+public record TsidProperties(
+        @DefaultValue("0") int nodeId,
+        @DefaultValue("6") int nodeBits,
+        @DefaultValue("4") int stripeBits
+) {
+}
@@ -0,0 +1,77 @@
+package com.algaworks.algashop.ordering.presentation;
+
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderHistoryQuery;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/customers/{customerId}/orders")
+public class CustomerOrderHistoryController {
+
+    private final OrderHistoryQuery orderHistoryQuery;
+    private final ObjectMapper objectMapper;
+
+    public CustomerOrderHistoryController(OrderHistoryQuery orderHistoryQuery, ObjectMapper objectMapper) {
+        this.orderHistoryQuery = Objects.requireNonNull(orderHistoryQuery);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> history(@PathVariable UUID customerId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > OrderHistoryQuery.MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "size must be between 1 and " + OrderHistoryQuery.MAX_PAGE_SIZE);
+        }
+        OrderId before = cursor == null ? null : parseCursor(cursor);
+        CustomerId id = new CustomerId(customerId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> this.write(out, id, before, size));
+    }
+
+    private void write(OutputStream out, CustomerId customerId, OrderId before, int size) throws IOException {
+        try (JsonGenerator generator = this.objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("orders");
+            Optional<OrderId> nextCursor = this.orderHistoryQuery.forEach(customerId, before, size, summary -> {
+                try {
+                    generator.writeObject(summary);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+            generator.writeFieldName("nextCursor");
+            generator.writeObject(nextCursor.orElse(null));
+            generator.writeEndObject();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static OrderId parseCursor(String cursor) {
+        try {
+            return new OrderId(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor is not a valid order id");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+CREATE TABLE IF NOT EXISTS orders (
+    id BIGINT PRIMARY KEY,
+    customer_id UUID NOT NULL,
+    total_amount DECIMAL(19, 2) NOT NULL,
+    total_items INT NOT NULL,
+    placed_at TIMESTAMP WITH TIME ZONE,
+    paid_at TIMESTAMP WITH TIME ZONE,
+    canceled_at TIMESTAMP WITH TIME ZONE,
+    ready_at TIMESTAMP WITH TIME ZONE,
+    status VARCHAR(20) NOT NULL,
+    payment_method VARCHAR(20),
+    billing_first_name VARCHAR(255),
+    billing_last_name VARCHAR(255),
+    billing_document VARCHAR(255),
+    billing_phone VARCHAR(255),
+    billing_email VARCHAR(255),
+    billing_street VARCHAR(255),
+    billing_complement VARCHAR(255),
+    billing_neighborhood VARCHAR(255),
+    billing_number VARCHAR(255),
+    billing_city VARCHAR(255),
+    billing_state VARCHAR(255),
+    billing_zip_code VARCHAR(5),
+    shipping_cost DECIMAL(19, 2),
+    shipping_expected_date DATE,
+    shipping_recipient_first_name VARCHAR(255),
+    shipping_recipient_last_name VARCHAR(255),
+    shipping_recipient_document VARCHAR(255),
+    shipping_recipient_phone VARCHAR(255),
+    shipping_street VARCHAR(255),
+    shipping_complement VARCHAR(255),
+    shipping_neighborhood VARCHAR(255),
+    shipping_number VARCHAR(255),
+    shipping_city VARCHAR(255),
+    shipping_state VARCHAR(255),
+    shipping_zip_code VARCHAR(5),
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_orders_customer_id_id ON orders (customer_id, id);
+
+CREATE TABLE IF NOT EXISTS order_item (
+    id BIGINT PRIMARY KEY,
+    order_id BIGINT NOT NULL REFERENCES orders (id),
+    product_id UUID NOT NULL,
+    product_name VARCHAR(255) NOT NULL,
+    price DECIMAL(19, 2) NOT NULL,
+    quantity INT NOT NULL,
+    total_amount DECIMAL(19, 2) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_item_order_id ON order_item (order_id);
+
+CREATE TABLE IF NOT EXISTS shopping_cart (
+    id UUID PRIMARY KEY,
+    customer_id UUID NOT NULL,
+    total_amount DECIMAL(19, 2) NOT NULL,
+    total_items INT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS shopping_cart_item (
+    id UUID PRIMARY KEY,
+    shopping_cart_id UUID NOT NULL REFERENCES shopping_cart (id),
+    product_id UUID NOT NULL,
+    product_name VARCHAR(255) NOT NULL,
+    price DECIMAL(19, 2) NOT NULL,
+    quantity INT NOT NULL,
+    available BOOLEAN NOT NULL,
+    total_amount DECIMAL(19, 2) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_shopping_cart_item_shopping_cart_id ON shopping_cart_item (shopping_cart_id);
@@ -17,4 +17,22 @@ class OrderStatusTest {
         Assertions.assertThat(OrderStatus.PLACED.canNotChangeTo(OrderStatus.DRAFT)).isTrue();
     }
 
+    @Test
+    void allowedTransitions() {
+        Assertions.assertThat(OrderStatus.DRAFT.allowedTransitions())
+                .containsExactlyInAnyOrder(OrderStatus.PLACED, OrderStatus.CANCELED);
+        Assertions.assertThat(OrderStatus.PLACED.allowedTransitions())
+                .containsExactlyInAnyOrder(OrderStatus.PAID, OrderStatus.CANCELED);
+        Assertions.assertThat(OrderStatus.PAID.allowedTransitions())
+                .containsExactlyInAnyOrder(OrderStatus.READY, OrderStatus.CANCELED);
+        Assertions.assertThat(OrderStatus.READY.allowedTransitions()).containsExactly(OrderStatus.CANCELED);
+        Assertions.assertThat(OrderStatus.CANCELED.allowedTransitions()).isEmpty();
+    }
+
+    @Test
+    void allowedTransitionsShouldBeReadOnly() {
+        Assertions.assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> OrderStatus.DRAFT.allowedTransitions().add(OrderStatus.PAID));
+    }
+
 }
\ No newline at end of file
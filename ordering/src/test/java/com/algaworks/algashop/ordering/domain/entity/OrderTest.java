@@ -1,9 +1,11 @@
 package com.algaworks.algashop.ordering.domain.entity;
 
+import com.algaworks.algashop.ordering.domain.event.*;
 import com.algaworks.algashop.ordering.domain.exception.OrderInvalidShippingDeliveryDateException;
 import com.algaworks.algashop.ordering.domain.exception.OrderStatusCannotBeChangedException;
 import com.algaworks.algashop.ordering.domain.exception.ProductOutOfStockException;
 import com.algaworks.algashop.ordering.domain.exception.OrderCannotBeEditedException;
+import com.algaworks.algashop.ordering.domain.exception.OrderCannotBePlacedException;
 import com.algaworks.algashop.ordering.domain.valueobject.*;
 import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
 import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
@@ -13,6 +15,9 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 class OrderTest {
@@ -62,6 +67,117 @@ class OrderTest {
         );
     }
 
+    @Test
+    public void givenDraftOrder_whenAddItems_shouldAddAllAndCalculateTotals() {
+        Order order = Order.draft(new CustomerId());
+        Map<Product, Quantity> productQuantities = new LinkedHashMap<>();
+        productQuantities.put(ProductTestDataBuilder.aProductAltMousePad().build(), new Quantity(2));
+        productQuantities.put(ProductTestDataBuilder.aProductAltRamMemory().build(), new Quantity(1));
+
+        order.addItems(productQuantities);
+
+        Assertions.assertWith(order,
+                o -> Assertions.assertThat(o.items()).hasSize(2),
+                o -> Assertions.assertThat(o.totalAmount()).isEqualTo(new Money("400")),
+                o -> Assertions.assertThat(o.totalItems()).isEqualTo(new Quantity(3))
+        );
+    }
+
+    @Test
+    public void givenOutOfStockProductAmongItems_whenAddItems_shouldNotAddAny() {
+        Order order = Order.draft(new CustomerId());
+        Map<Product, Quantity> productQuantities = new LinkedHashMap<>();
+        productQuantities.put(ProductTestDataBuilder.aProductAltMousePad().build(), new Quantity(2));
+        productQuantities.put(ProductTestDataBuilder.aProductUnavailable().build(), new Quantity(1));
+
+        Assertions.assertThatExceptionOfType(ProductOutOfStockException.class)
+                .isThrownBy(() -> order.addItems(productQuantities));
+
+        Assertions.assertWith(order,
+                o -> Assertions.assertThat(o.items()).isEmpty(),
+                o -> Assertions.assertThat(o.totalAmount()).isEqualTo(Money.ZERO)
+        );
+    }
+
+    @Test
+    public void givenNonDraftOrder_whenTryToAddItems_shouldNotAllowChange() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        Map<Product, Quantity> productQuantities = Map.of(
+                ProductTestDataBuilder.aProductAltMousePad().build(), new Quantity(1));
+
+        Assertions.assertThatExceptionOfType(OrderCannotBeEditedException.class)
+                .isThrownBy(() -> order.addItems(productQuantities));
+    }
+
+    @Test
+    public void givenShoppingCart_whenAddItemsFrom_shouldCopyLinesAndTotals() {
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        Order order = Order.draft(shoppingCart.customerId());
+        order.changeShipping(OrderTestDataBuilder.aShipping());
+
+        order.addItemsFrom(shoppingCart, ShoppingCartTestDataBuilder.currentProductsOf(shoppingCart));
+
+        Assertions.assertWith(order,
+                o -> Assertions.assertThat(o.items()).hasSize(2),
+                o -> Assertions.assertThat(o.totalAmount()).isEqualTo(shoppingCart.totalAmount().add(new Money("10"))),
+                o -> Assertions.assertThat(o.totalItems()).isEqualTo(shoppingCart.totalItems())
+        );
+        for (ShoppingCartItem shoppingCartItem : shoppingCart.items()) {
+            Assertions.assertThat(order.containsProduct(shoppingCartItem.productId())).isTrue();
+        }
+    }
+
+    @Test
+    public void givenRepricedProduct_whenAddItemsFrom_shouldRecalculateLinesAndTotals() {
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        Product notebook = ProductTestDataBuilder.aProduct().build();
+        Product mousePad = ProductTestDataBuilder.aProductAltMousePad().build();
+        shoppingCart.addItem(notebook, new Quantity(2));
+        shoppingCart.addItem(mousePad, new Quantity(1));
+        Map<ProductId, Product> currentProducts = ShoppingCartTestDataBuilder.currentProductsOf(shoppingCart);
+        currentProducts.put(notebook.id(), ProductTestDataBuilder.aProduct()
+                .id(notebook.id()).price(new Money("2500")).build());
+        Order order = Order.draft(shoppingCart.customerId());
+
+        order.addItemsFrom(shoppingCart, currentProducts);
+
+        Assertions.assertWith(order,
+                o -> Assertions.assertThat(o.totalAmount()).isEqualTo(new Money("5100")),
+                o -> Assertions.assertThat(o.totalItems()).isEqualTo(new Quantity(3))
+        );
+        OrderItem notebookItem = order.items().stream()
+                .filter(i -> i.productId().equals(notebook.id()))
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertWith(notebookItem,
+                i -> Assertions.assertThat(i.price()).isEqualTo(new Money("2500")),
+                i -> Assertions.assertThat(i.totalAmount()).isEqualTo(new Money("5000"))
+        );
+    }
+
+    @Test
+    public void givenProductOutOfStock_whenAddItemsFrom_shouldNotAddAnyLine() {
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        Map<ProductId, Product> currentProducts = ShoppingCartTestDataBuilder.currentProductsOf(shoppingCart);
+        ProductId productId = currentProducts.keySet().iterator().next();
+        currentProducts.put(productId, ProductTestDataBuilder.aProduct().id(productId).inStock(false).build());
+        Order order = Order.draft(shoppingCart.customerId());
+
+        Assertions.assertThatExceptionOfType(ProductOutOfStockException.class)
+                .isThrownBy(() -> order.addItemsFrom(shoppingCart, currentProducts));
+        Assertions.assertThat(order.items()).isEmpty();
+    }
+
+    @Test
+    public void givenNonDraftOrder_whenTryToAddItemsFromShoppingCart_shouldNotAllowChange() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+
+        Assertions.assertThatExceptionOfType(OrderCannotBeEditedException.class)
+                .isThrownBy(() -> order.addItemsFrom(shoppingCart,
+                        ShoppingCartTestDataBuilder.currentProductsOf(shoppingCart)));
+    }
+
     @Test
     public void shouldGenerateExceptionWhenTryToChangeItemSet() {
         Order order = Order.draft(new CustomerId());
@@ -164,6 +280,18 @@ class OrderTest {
         Assertions.assertWith(order, o -> Assertions.assertThat(o.shipping()).isEqualTo(shipping));
     }
 
+    @Test
+    public void givenDraftOrderWithItems_whenChangeShipping_shouldReplaceShippingCostInTotal() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        order.changeShipping(OrderTestDataBuilder.aShippingAlt());
+
+        Assertions.assertWith(order,
+                o -> Assertions.assertThat(o.totalAmount()).isEqualTo(new Money("6220")),
+                o -> Assertions.assertThat(o.totalItems()).isEqualTo(new Quantity(3))
+        );
+    }
+
     @Test
     public void givenDraftOrderAndDeliveryDateInThePast_whenChangeShipping_shouldNotAllowChange() {
         LocalDate expectedDeliveryDate = LocalDate.now().minusDays(2);
@@ -240,6 +368,25 @@ class OrderTest {
         );
     }
 
+    @Test
+    public void givenDraftOrder_whenEditManyItems_shouldKeepTotalsInSync() {
+        Order order = Order.draft(new CustomerId());
+
+        for (int i = 0; i < 50; i++) {
+            order.addItem(ProductTestDataBuilder.aProductAltMousePad().build(), new Quantity(2));
+        }
+
+        order.items().stream().limit(10).map(OrderItem::id).toList()
+                .forEach(id -> order.changeItemQuantity(id, new Quantity(4)));
+        order.items().stream().skip(40).map(OrderItem::id).toList()
+                .forEach(order::removeItem);
+
+        Assertions.assertWith(order,
+                o -> Assertions.assertThat(o.totalItems()).isEqualTo(new Quantity(100)),
+                o -> Assertions.assertThat(o.totalAmount()).isEqualTo(new Money("10000"))
+        );
+    }
+
     @Test
     public void givenOutOfStockProduct_whenTryToAddToAnOrder_shouldNotAllow() {
         Order order = Order.draft(new CustomerId());
@@ -252,6 +399,44 @@ class OrderTest {
         Assertions.assertThatExceptionOfType(ProductOutOfStockException.class).isThrownBy(addItemTask);
     }
 
+    @Test
+    public void givenDraftOrder_whenTryAddItem_shouldAddAndReturnAdded() {
+        Order order = Order.draft(new CustomerId());
+        Product product = ProductTestDataBuilder.aProductAltMousePad().build();
+
+        AddItemResult result = order.tryAddItem(product, new Quantity(2));
+
+        Assertions.assertThat(result).isSameAs(AddItemResult.ADDED);
+        Assertions.assertWith(order,
+                o -> Assertions.assertThat(o.containsProduct(product.id())).isTrue(),
+                o -> Assertions.assertThat(o.totalAmount()).isEqualTo(new Money("200")),
+                o -> Assertions.assertThat(o.totalItems()).isEqualTo(new Quantity(2))
+        );
+    }
+
+    @Test
+    public void givenOutOfStockProduct_whenTryAddItem_shouldReturnRejectionWithoutChanges() {
+        Order order = Order.draft(new CustomerId());
+        Product product = ProductTestDataBuilder.aProductUnavailable().build();
+
+        AddItemResult result = order.tryAddItem(product, new Quantity(1));
+
+        Assertions.assertThat(result).isEqualTo(new AddItemResult.ProductOutOfStock(product.id()));
+        Assertions.assertThat(result.isAdded()).isFalse();
+        Assertions.assertThat(order.items()).isEmpty();
+    }
+
+    @Test
+    public void givenNonDraftOrder_whenTryAddItem_shouldReturnCannotBeEdited() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        int itemCount = order.items().size();
+
+        AddItemResult result = order.tryAddItem(ProductTestDataBuilder.aProductUnavailable().build(), new Quantity(1));
+
+        Assertions.assertThat(result).isEqualTo(new AddItemResult.OrderCannotBeEdited(order.id(), OrderStatus.PLACED));
+        Assertions.assertThat(order.items()).hasSize(itemCount);
+    }
+
     @Test
     public void givenDraftOrder_whenRemoveItem_shouldRecalculateTotalsAndItems() {
         Order order = OrderTestDataBuilder.anOrder().build();
@@ -278,6 +463,40 @@ class OrderTest {
                 .isThrownBy(() -> order.removeItem(new com.algaworks.algashop.ordering.domain.valueobject.id.OrderItemId()));
     }
 
+    @Test
+    public void givenDraftOrder_whenChangeItemQuantityAndRemoveIt_shouldRemoveItem() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        OrderItem orderItem = order.items().iterator().next();
+
+        order.changeItemQuantity(orderItem.id(), new Quantity(7));
+        order.removeItem(orderItem.id());
+
+        Assertions.assertWith(order,
+                o -> Assertions.assertThat(o.items()).hasSize(1),
+                o -> Assertions.assertThat(o.items()).doesNotContain(orderItem),
+                o -> Assertions.assertThat(o.containsProduct(orderItem.productId())).isFalse()
+        );
+    }
+
+    @Test
+    public void givenDraftOrder_whenAddItem_shouldContainProduct() {
+        Order order = Order.draft(new CustomerId());
+        Product product = ProductTestDataBuilder.aProductAltMousePad().build();
+
+        order.addItem(product, new Quantity(1));
+        order.addItem(product, new Quantity(2));
+
+        OrderItem orderItem = order.items().iterator().next();
+        order.removeItem(orderItem.id());
+
+        Assertions.assertWith(order,
+                o -> Assertions.assertThat(o.containsProduct(product.id())).isTrue(),
+                o -> Assertions.assertThat(o.containsProduct(new ProductId())).isFalse(),
+                o -> Assertions.assertThat(o.items()).hasSize(1)
+        );
+    }
+
     @Test
     public void givenNonDraftOrder_whenTryToRemoveItem_shouldNotAllowChange() {
         Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
@@ -361,4 +580,69 @@ class OrderTest {
         Assertions.assertThat(canceledOrder.isCanceled()).isTrue();
     }
 
+    @Test
+    public void givenDraftOrder_whenAddItem_shouldRecordItemAddedEvent() {
+        Order order = Order.draft(new CustomerId());
+        Product product = ProductTestDataBuilder.aProductAltMousePad().build();
+
+        order.addItem(product, new Quantity(2));
+
+        OrderItem orderItem = order.items().iterator().next();
+        Assertions.assertThat(order.domainEvents()).hasSize(1);
+        OrderItemAddedEvent event = (OrderItemAddedEvent) order.domainEvents().getFirst();
+        Assertions.assertWith(event,
+                e -> Assertions.assertThat(e.orderId()).isEqualTo(order.id()),
+                e -> Assertions.assertThat(e.orderItemId()).isEqualTo(orderItem.id()),
+                e -> Assertions.assertThat(e.productId()).isEqualTo(product.id()),
+                e -> Assertions.assertThat(e.quantity()).isEqualTo(new Quantity(2))
+        );
+    }
+
+    @Test
+    public void givenDraftOrderWithItem_whenChangeQuantityAndRemove_shouldRecordItemEvents() {
+        Order order = Order.draft(new CustomerId());
+        order.addItem(ProductTestDataBuilder.aProductAltMousePad().build(), new Quantity(1));
+        OrderItem orderItem = order.items().iterator().next();
+        order.pullDomainEvents();
+
+        order.changeItemQuantity(orderItem.id(), new Quantity(3));
+        order.removeItem(orderItem.id());
+
+        List<DomainEvent> events = order.pullDomainEvents();
+        Assertions.assertThat(events).hasSize(2);
+        Assertions.assertThat(((OrderItemQuantityChangedEvent) events.get(0)).quantity()).isEqualTo(new Quantity(3));
+        Assertions.assertThat(((OrderItemRemovedEvent) events.get(1)).orderItemId()).isEqualTo(orderItem.id());
+        Assertions.assertThat(order.domainEvents()).isEmpty();
+    }
+
+    @Test
+    public void givenOrderGoingThroughLifecycle_shouldRecordStatusEventsWithTheirTimestamps() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        order.pullDomainEvents();
+
+        order.place();
+        order.markAsPaid();
+        order.markAsReady();
+
+        Assertions.assertThat(order.pullDomainEvents()).containsExactly(
+                new OrderPlacedEvent(order.id(), order.customerId(), order.placedAt()),
+                new OrderPaidEvent(order.id(), order.customerId(), order.paidAt()),
+                new OrderReadyEvent(order.id(), order.customerId(), order.readyAt()));
+
+        order.cancel();
+
+        Assertions.assertThat(order.pullDomainEvents()).containsExactly(
+                new OrderCanceledEvent(order.id(), order.customerId(), order.canceledAt()));
+    }
+
+    @Test
+    public void givenDraftOrder_whenPlaceFails_shouldNotRecordEvent() {
+        Order order = Order.draft(new CustomerId());
+
+        Assertions.assertThatExceptionOfType(OrderCannotBePlacedException.class)
+                .isThrownBy(order::place);
+
+        Assertions.assertThat(order.domainEvents()).isEmpty();
+    }
+
 }
@@ -1,15 +1,20 @@
 package com.algaworks.algashop.ordering.domain.entity;
 
+import com.algaworks.algashop.ordering.domain.event.*;
 import com.algaworks.algashop.ordering.domain.exception.ShoppingCartDoesNotContainItemException;
+import com.algaworks.algashop.ordering.domain.exception.ShoppingCartDoesNotContainProductException;
 import com.algaworks.algashop.ordering.domain.valueobject.Money;
 import com.algaworks.algashop.ordering.domain.valueobject.Product;
 import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
 import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
 import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartItemId;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Set;
 
 class ShoppingCartTest {
@@ -60,6 +65,50 @@ class ShoppingCartTest {
         Assertions.assertThat(existing.quantity()).isEqualTo(new Quantity(6));
     }
 
+    @Test
+    void givenCartWithExistingProduct_whenAddSameProduct_shouldKeepItemIdAndAdjustTotals() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        Product product = ProductTestDataBuilder.aProduct().build();
+        cart.addItem(product, new Quantity(1));
+        ShoppingCartItem item = cart.findItem(product.id());
+        Money totalAmount = cart.totalAmount();
+
+        cart.addItem(product, new Quantity(2));
+
+        Assertions.assertWith(cart,
+                c -> Assertions.assertThat(c.findItem(product.id()).id()).isEqualTo(item.id()),
+                c -> Assertions.assertThat(c.items()).contains(item),
+                c -> Assertions.assertThat(c.totalAmount())
+                        .isEqualTo(totalAmount.add(product.price().multiply(new Quantity(2))))
+        );
+    }
+
+    @Test
+    void givenCart_whenTryAddItemTwice_shouldMergeQuantitiesAndReturnAdded() {
+        ShoppingCart cart = ShoppingCart.startShopping(new CustomerId());
+        Product product = ProductTestDataBuilder.aProductAltMousePad().build();
+
+        Assertions.assertThat(cart.tryAddItem(product, new Quantity(1)).isAdded()).isTrue();
+        Assertions.assertThat(cart.tryAddItem(product, new Quantity(2)).isAdded()).isTrue();
+
+        Assertions.assertWith(cart,
+                c -> Assertions.assertThat(c.items()).hasSize(1),
+                c -> Assertions.assertThat(c.totalItems()).isEqualTo(new Quantity(3)),
+                c -> Assertions.assertThat(c.totalAmount()).isEqualTo(new Money("300"))
+        );
+    }
+
+    @Test
+    void givenOutOfStockProduct_whenTryAddItem_shouldReturnRejectionWithoutChanges() {
+        ShoppingCart cart = ShoppingCart.startShopping(new CustomerId());
+        Product product = ProductTestDataBuilder.aProductUnavailable().build();
+
+        AddItemResult result = cart.tryAddItem(product, new Quantity(1));
+
+        Assertions.assertThat(result).isEqualTo(new AddItemResult.ProductOutOfStock(product.id()));
+        Assertions.assertThat(cart.isEmpty()).isTrue();
+    }
+
     @Test
     void givenCartWithItems_whenRemoveExistingItem_shouldRemoveAndRecalculateTotals() {
         ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
@@ -117,6 +166,28 @@ class ShoppingCartTest {
         Assertions.assertThat(cart.totalAmount()).isEqualTo(new Money("200"));
     }
 
+    @Test
+    void givenCartWithItems_whenRefreshItems_shouldApplyMatchingProductsAndIgnoreOthers() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        Product notebook = ProductTestDataBuilder.aProduct().build();
+        Product ram = ProductTestDataBuilder.aProductAltRamMemory().build();
+        cart.addItem(notebook, new Quantity(2));
+        cart.addItem(ram, new Quantity(1));
+
+        cart.refreshItems(List.of(
+                ProductTestDataBuilder.aProduct().id(notebook.id()).price(new Money("2500")).build(),
+                ProductTestDataBuilder.aProductAltRamMemory().id(ram.id()).inStock(false).build(),
+                ProductTestDataBuilder.aProductAltMousePad().build()
+        ));
+
+        Assertions.assertWith(cart,
+                c -> Assertions.assertThat(c.items()).hasSize(2),
+                c -> Assertions.assertThat(c.findItem(notebook.id()).price()).isEqualTo(new Money("2500")),
+                c -> Assertions.assertThat(c.totalAmount()).isEqualTo(new Money("5200")),
+                c -> Assertions.assertThat(c.containsUnavailableItems()).isTrue()
+        );
+    }
+
     @Test
     void givenCartWithItems_whenDetectUnavailableItems_shouldReturnTrue() {
         ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
@@ -130,6 +201,67 @@ class ShoppingCartTest {
         Assertions.assertThat(cart.containsUnavailableItems()).isTrue();
     }
 
+    @Test
+    void givenCartWithUnavailableItem_whenProductBackInStock_shouldNotContainUnavailableItems() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        var existingItem = cart.items().iterator().next();
+        Product.ProductBuilder product = ProductTestDataBuilder.aProduct().id(existingItem.productId());
+
+        cart.refreshItem(product.inStock(false).build());
+        cart.refreshItem(product.inStock(false).build());
+        cart.refreshItem(product.inStock(true).build());
+
+        Assertions.assertThat(cart.containsUnavailableItems()).isFalse();
+    }
+
+    @Test
+    void givenCartWithUnavailableItem_whenRemoveIt_shouldNotContainUnavailableItems() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        var existingItem = cart.items().iterator().next();
+        cart.refreshItem(ProductTestDataBuilder.aProduct()
+                .id(existingItem.productId())
+                .inStock(false)
+                .build());
+
+        cart.removeItem(existingItem.id());
+
+        Assertions.assertThat(cart.containsUnavailableItems()).isFalse();
+    }
+
+    @Test
+    void givenExistingCartWithUnavailableItem_whenCheckAvailability_shouldReturnTrue() {
+        ShoppingCartId cartId = new ShoppingCartId();
+        ShoppingCartItem unavailableItem = ShoppingCartItemTestDataBuilder.aShoppingCartItem()
+                .shoppingCartId(cartId)
+                .available(false)
+                .build();
+
+        ShoppingCart cart = ShoppingCart.existing()
+                .id(cartId)
+                .customerId(new CustomerId())
+                .totalAmount(unavailableItem.totalAmount())
+                .totalItems(unavailableItem.quantity())
+                .createdAt(OffsetDateTime.now())
+                .items(Set.of(unavailableItem))
+                .build();
+
+        Assertions.assertWith(cart,
+                c -> Assertions.assertThat(c.containsUnavailableItems()).isTrue(),
+                c -> Assertions.assertThat(c.findItem(unavailableItem.productId())).isEqualTo(unavailableItem)
+        );
+    }
+
+    @Test
+    void givenCartWithItems_whenEmpty_shouldNotFindPreviousProducts() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        var existingItem = cart.items().iterator().next();
+
+        cart.empty();
+
+        Assertions.assertThatExceptionOfType(ShoppingCartDoesNotContainProductException.class)
+                .isThrownBy(() -> cart.findItem(existingItem.productId()));
+    }
+
     @Test
     void givenCartWithItems_whenChangeQuantityToZero_shouldThrowIllegalArgumentException() {
         ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
@@ -168,4 +300,34 @@ class ShoppingCartTest {
 
         Assertions.assertThat(shoppingCart1).isNotEqualTo(shoppingCart2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenCustomer_whenStartShopping_shouldRecordCreatedEvent() {
+        var customerId = new CustomerId();
+
+        ShoppingCart cart = ShoppingCart.startShopping(customerId);
+
+        Assertions.assertThat(cart.domainEvents()).containsExactly(
+                new ShoppingCartCreatedEvent(cart.id(), customerId, cart.createdAt()));
+    }
+
+    @Test
+    void givenCart_whenAddRemoveAndEmpty_shouldRecordEventsInOrder() {
+        ShoppingCart cart = ShoppingCart.startShopping(new CustomerId());
+        Product product = ProductTestDataBuilder.aProductAltMousePad().build();
+        cart.pullDomainEvents();
+
+        cart.addItem(product, new Quantity(2));
+        cart.removeItem(cart.findItem(product.id()).id());
+        cart.empty();
+
+        List<DomainEvent> events = cart.pullDomainEvents();
+        Assertions.assertThat(events).hasSize(3);
+        ShoppingCartItemAddedEvent added = (ShoppingCartItemAddedEvent) events.get(0);
+        Assertions.assertThat(added.productId()).isEqualTo(product.id());
+        Assertions.assertThat(added.quantity()).isEqualTo(new Quantity(2));
+        Assertions.assertThat(((ShoppingCartItemRemovedEvent) events.get(1)).productId()).isEqualTo(product.id());
+        Assertions.assertThat(((ShoppingCartEmptiedEvent) events.get(2)).shoppingCartId()).isEqualTo(cart.id());
+        Assertions.assertThat(cart.domainEvents()).isEmpty();
+    }
+}
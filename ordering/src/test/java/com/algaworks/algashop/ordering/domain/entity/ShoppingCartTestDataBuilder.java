@@ -1,9 +1,14 @@
 package com.algaworks.algashop.ordering.domain.entity;
 
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
 import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
 import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
 import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class ShoppingCartTestDataBuilder {
 
     public CustomerId customerId = new CustomerId();
@@ -17,6 +22,19 @@ public class ShoppingCartTestDataBuilder {
         return new ShoppingCartTestDataBuilder();
     }
 
+    public static Map<ProductId, Product> currentProductsOf(ShoppingCart shoppingCart) {
+        Map<ProductId, Product> products = new LinkedHashMap<>();
+        for (ShoppingCartItem item : shoppingCart.items()) {
+            products.put(item.productId(), Product.builder()
+                    .id(item.productId())
+                    .name(item.productName())
+                    .price(item.price())
+                    .inStock(true)
+                    .build());
+        }
+        return products;
+    }
+
     public ShoppingCart build() {
         ShoppingCart cart = ShoppingCart.startShopping(customerId);
 
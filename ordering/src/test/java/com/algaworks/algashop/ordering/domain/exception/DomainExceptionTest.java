@@ -0,0 +1,46 @@
+package com.algaworks.algashop.ordering.domain.exception;
+
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DomainExceptionTest {
+
+    @Test
+    void givenRejection_whenCreated_shouldNotCaptureStackTrace() {
+        ProductOutOfStockException exception = new ProductOutOfStockException(new ProductId());
+
+        Assertions.assertThat(exception).isInstanceOf(DomainRejectionException.class);
+        Assertions.assertThat(exception.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void givenRejection_whenGetMessage_shouldFormatTemplate() {
+        OrderId orderId = new OrderId();
+
+        OrderCannotBeEditedException exception = new OrderCannotBeEditedException(orderId, OrderStatus.PLACED);
+
+        Assertions.assertThat(exception.getMessage())
+                .isEqualTo(String.format(ErrorMessages.ERROR_ORDER_CANNOT_BE_EDITED, orderId, OrderStatus.PLACED))
+                .isSameAs(exception.getMessage());
+    }
+
+    @Test
+    void givenNonRejection_whenCreated_shouldCaptureStackTraceAndFormatLazily() {
+        OrderId orderId = new OrderId();
+
+        OrderInvalidShippingDeliveryDateException exception = new OrderInvalidShippingDeliveryDateException(orderId);
+
+        Assertions.assertThat(exception.getStackTrace()).isNotEmpty();
+        Assertions.assertThat(exception.getMessage())
+                .isEqualTo(String.format(ErrorMessages.ERROR_ORDER_DELIVERY_DATE_CANNOT_BE_IN_THE_PAST, orderId));
+    }
+
+    @Test
+    void givenPlainMessage_whenGetMessage_shouldReturnIt() {
+        Assertions.assertThat(new CustomerArchivedException().getMessage())
+                .isEqualTo(ErrorMessages.ERROR_CUSTOMER_ARCHIVED);
+    }
+}
@@ -5,6 +5,7 @@ import com.algaworks.algashop.ordering.domain.entity.OrderTestDataBuilder;
 import com.algaworks.algashop.ordering.domain.entity.PaymentMethod;
 import com.algaworks.algashop.ordering.domain.entity.ProductTestDataBuilder;
 import com.algaworks.algashop.ordering.domain.valueobject.Billing;
+import com.algaworks.algashop.ordering.domain.valueobject.Money;
 import com.algaworks.algashop.ordering.domain.valueobject.Product;
 import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
 import com.algaworks.algashop.ordering.domain.valueobject.Shipping;
@@ -12,6 +13,8 @@ import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 class OrderFactoryTest {
 
     @Test
@@ -44,4 +47,30 @@ class OrderFactoryTest {
 
     }
 
+    @Test
+    public void shouldGenerateFilledOrderWithManyItems() {
+        Map<Product, Quantity> productQuantities = Map.of(
+                ProductTestDataBuilder.aProduct().build(), new Quantity(1),
+                ProductTestDataBuilder.aProductAltRamMemory().build(), new Quantity(2)
+        );
+
+        Order order = OrderFactory.filled(
+                new CustomerId(),
+                OrderTestDataBuilder.aShipping(),
+                OrderTestDataBuilder.aBilling(),
+                PaymentMethod.CREDIT_CARD,
+                productQuantities
+        );
+
+        Assertions.assertWith(order,
+                o -> Assertions.assertThat(o.items()).hasSize(2),
+                o -> Assertions.assertThat(o.totalItems()).isEqualTo(new Quantity(3)),
+                o -> Assertions.assertThat(o.totalAmount()).isEqualTo(new Money("3410"))
+        );
+
+        order.place();
+
+        Assertions.assertThat(order.isPlaced()).isTrue();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.algaworks.algashop.ordering.domain.service;
+
+import com.algaworks.algashop.ordering.domain.entity.*;
+import com.algaworks.algashop.ordering.domain.exception.ShoppingCartCannotProceedToCheckoutException;
+import com.algaworks.algashop.ordering.domain.valueobject.Money;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class CheckoutServiceTest {
+
+    private final CheckoutService checkoutService = new CheckoutService();
+
+    @Test
+    void givenShoppingCartWithItems_whenCheckout_shouldCreateDraftOrderAndEmptyCart() {
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        Money cartTotalAmount = shoppingCart.totalAmount();
+        Quantity cartTotalItems = shoppingCart.totalItems();
+
+        Order order = checkoutService.checkout(shoppingCart, ShoppingCartTestDataBuilder.currentProductsOf(shoppingCart),
+                OrderTestDataBuilder.aBilling(), OrderTestDataBuilder.aShipping(), PaymentMethod.CREDIT_CARD);
+
+        Assertions.assertWith(order,
+                o -> Assertions.assertThat(o.isDraft()).isTrue(),
+                o -> Assertions.assertThat(o.customerId()).isEqualTo(shoppingCart.customerId()),
+                o -> Assertions.assertThat(o.items()).hasSize(2),
+                o -> Assertions.assertThat(o.totalItems()).isEqualTo(cartTotalItems),
+                o -> Assertions.assertThat(o.totalAmount()).isEqualTo(cartTotalAmount.add(new Money("10"))),
+                o -> Assertions.assertThat(o.paymentMethod()).isEqualTo(PaymentMethod.CREDIT_CARD)
+        );
+        Assertions.assertThat(shoppingCart.isEmpty()).isTrue();
+    }
+
+    @Test
+    void givenEmptyShoppingCart_whenCheckout_shouldThrow() {
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+
+        Assertions.assertThatExceptionOfType(ShoppingCartCannotProceedToCheckoutException.class)
+                .isThrownBy(() -> checkoutService.checkout(shoppingCart,
+                        ShoppingCartTestDataBuilder.currentProductsOf(shoppingCart),
+                        OrderTestDataBuilder.aBilling(), OrderTestDataBuilder.aShipping(), PaymentMethod.CREDIT_CARD));
+    }
+
+    @Test
+    void givenShoppingCartWithUnavailableItem_whenCheckout_shouldThrowAndKeepCart() {
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        Product product = ProductTestDataBuilder.aProduct().build();
+        shoppingCart.addItem(product, new Quantity(1));
+        shoppingCart.refreshItem(ProductTestDataBuilder.aProduct().id(product.id()).inStock(false).build());
+
+        Assertions.assertThatExceptionOfType(ShoppingCartCannotProceedToCheckoutException.class)
+                .isThrownBy(() -> checkoutService.checkout(shoppingCart,
+                        ShoppingCartTestDataBuilder.currentProductsOf(shoppingCart),
+                        OrderTestDataBuilder.aBilling(), OrderTestDataBuilder.aShipping(), PaymentMethod.CREDIT_CARD));
+
+        Assertions.assertThat(shoppingCart.isEmpty()).isFalse();
+    }
+
+    @Test
+    void givenRepricedProduct_whenCheckout_shouldUseCurrentPrice() {
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        Product notebook = ProductTestDataBuilder.aProduct().build();
+        shoppingCart.addItem(notebook, new Quantity(2));
+        Map<ProductId, Product> currentProducts = Map.of(notebook.id(),
+                ProductTestDataBuilder.aProduct().id(notebook.id()).price(new Money("2800")).build());
+
+        Order order = checkoutService.checkout(shoppingCart, currentProducts,
+                OrderTestDataBuilder.aBilling(), OrderTestDataBuilder.aShipping(), PaymentMethod.CREDIT_CARD);
+
+        Assertions.assertThat(order.totalAmount()).isEqualTo(new Money("5610"));
+        Assertions.assertThat(shoppingCart.isEmpty()).isTrue();
+    }
+
+    @Test
+    void givenProductNoLongerSold_whenCheckout_shouldThrowAndKeepCart() {
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        Map<ProductId, Product> currentProducts = ShoppingCartTestDataBuilder.currentProductsOf(shoppingCart);
+        currentProducts.remove(currentProducts.keySet().iterator().next());
+
+        Assertions.assertThatExceptionOfType(ShoppingCartCannotProceedToCheckoutException.class)
+                .isThrownBy(() -> checkoutService.checkout(shoppingCart, currentProducts,
+                        OrderTestDataBuilder.aBilling(), OrderTestDataBuilder.aShipping(), PaymentMethod.CREDIT_CARD));
+
+        Assertions.assertThat(shoppingCart.isEmpty()).isFalse();
+    }
+}
@@ -0,0 +1,87 @@
+package com.algaworks.algashop.ordering.domain.service;
+
+import com.algaworks.algashop.ordering.domain.entity.ProductTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.valueobject.Money;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+class ShoppingCartRefreshServiceTest {
+
+    @Test
+    void givenManyCarts_whenRefresh_shouldUpdateOnlyCartsWithChangedProducts() {
+        Product notebook = ProductTestDataBuilder.aProduct().build();
+        Product mousePad = ProductTestDataBuilder.aProductAltMousePad().build();
+
+        List<ShoppingCart> carts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+            cart.addItem(i % 2 == 0 ? notebook : mousePad, new Quantity(2));
+            carts.add(cart);
+        }
+
+        Stream<Product> productChanges = Stream.of(
+                ProductTestDataBuilder.aProduct().id(notebook.id()).price(new Money("2900")).build(),
+                ProductTestDataBuilder.aProduct().id(notebook.id()).price(new Money("2800")).build(),
+                ProductTestDataBuilder.aProductAltRamMemory().build()
+        );
+
+        Set<ShoppingCartId> refreshed;
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            refreshed = new ShoppingCartRefreshService(executor, 4).refresh(carts, productChanges);
+        }
+
+        Assertions.assertThat(refreshed).hasSize(500);
+        for (int i = 0; i < carts.size(); i++) {
+            ShoppingCart cart = carts.get(i);
+            Money expectedTotal = i % 2 == 0 ? new Money("5600") : new Money("200");
+            Assertions.assertThat(cart.totalAmount()).isEqualTo(expectedTotal);
+            Assertions.assertThat(refreshed.contains(cart.id())).isEqualTo(i % 2 == 0);
+        }
+    }
+
+    @Test
+    void givenCartCountNotDivisibleByParallelism_whenRefresh_shouldRefreshEveryCart() {
+        Product notebook = ProductTestDataBuilder.aProduct().build();
+        List<ShoppingCart> carts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+            cart.addItem(notebook, new Quantity(1));
+            carts.add(cart);
+        }
+        Product repriced = ProductTestDataBuilder.aProduct().id(notebook.id()).price(new Money("2900")).build();
+
+        Set<ShoppingCartId> refreshed = new ShoppingCartRefreshService(Runnable::run, 4)
+                .refresh(carts, Stream.of(repriced));
+
+        Assertions.assertThat(refreshed).hasSize(5);
+        for (ShoppingCart cart : carts) {
+            Assertions.assertThat(cart.totalAmount()).isEqualTo(new Money("2900"));
+        }
+    }
+
+    @Test
+    void givenNoProductChanges_whenRefresh_shouldNotRefreshAnyCart() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        ShoppingCartRefreshService service = new ShoppingCartRefreshService(Runnable::run, 2);
+
+        Assertions.assertThat(service.refresh(List.of(cart), Stream.empty())).isEmpty();
+    }
+
+    @Test
+    void givenInvalidParallelism_whenCreate_shouldThrow() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ShoppingCartRefreshService(Runnable::run, 0));
+    }
+}
@@ -0,0 +1,65 @@
+package com.algaworks.algashop.ordering.domain.utility;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class TimeBasedUuidGeneratorTest {
+
+    @Test
+    void shouldGenerateVersion7WithTimestamp() {
+        long now = 1_760_000_000_000L;
+        TimeBasedUuidGenerator generator = new TimeBasedUuidGenerator(() -> now);
+
+        UUID uuid = generator.generate();
+
+        Assertions.assertThat(uuid.version()).isEqualTo(7);
+        Assertions.assertThat(uuid.variant()).isEqualTo(2);
+        Assertions.assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(now);
+    }
+
+    @Test
+    void givenFrozenClock_whenGenerateMoreThanCounterAllows_shouldStayMonotonic() {
+        TimeBasedUuidGenerator generator = new TimeBasedUuidGenerator(() -> 1_760_000_000_000L);
+
+        UUID previous = generator.generate();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.generate();
+            Assertions.assertThat(Long.compareUnsigned(
+                    next.getMostSignificantBits(), previous.getMostSignificantBits())).isGreaterThan(0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void givenManyThreads_whenGenerate_shouldNotRepeatIds() throws Exception {
+        TimeBasedUuidGenerator generator = new TimeBasedUuidGenerator();
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        int threads = 16;
+        int idsPerThread = 20_000;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(generator.generate());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Assertions.assertThat(ids).hasSize(threads * idsPerThread);
+    }
+}
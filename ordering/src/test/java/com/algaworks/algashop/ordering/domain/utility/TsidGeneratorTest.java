@@ -0,0 +1,103 @@
+package com.algaworks.algashop.ordering.domain.utility;
+
+import io.hypersistence.tsid.TSID;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class TsidGeneratorTest {
+
+    @Test
+    void givenManyThreads_whenGenerate_shouldNotRepeatIds() throws Exception {
+        TsidGenerator generator = new TsidGenerator(3, 6, 4);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 16;
+        int idsPerThread = 20_000;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(generator.generate().toLong());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Assertions.assertThat(ids).hasSize(threads * idsPerThread);
+    }
+
+    @Test
+    void givenManyVirtualThreads_whenGenerate_shouldNotRepeatIds() throws Exception {
+        TsidGenerator generator = new TsidGenerator(3, 6, 4);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 1_000;
+        int idsPerThread = 500;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(generator.generate().toLong());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Assertions.assertThat(ids).hasSize(threads * idsPerThread);
+    }
+
+    @Test
+    void givenFrozenClock_whenGenerateMoreThanCounterAllows_shouldStayMonotonic() {
+        long now = 1_760_000_000_000L;
+        TsidGenerator generator = new TsidGenerator(1, 10, 10, () -> now);
+
+        long previous = generator.generate().toLong();
+        for (int i = 0; i < 1_000; i++) {
+            long next = generator.generate().toLong();
+            Assertions.assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+        Assertions.assertThat(previous >>> 22).isGreaterThan(now - 1_577_836_800_000L);
+    }
+
+    @Test
+    void givenNodeId_whenGenerate_shouldEmbedNodeInRandomBits() {
+        int nodeBits = 6;
+        int stripeBits = 4;
+        TsidGenerator generator = new TsidGenerator(42, nodeBits, stripeBits);
+
+        TSID tsid = generator.generate();
+
+        int totalNodeBits = nodeBits + stripeBits;
+        long node = (tsid.toLong() >>> (22 - totalNodeBits)) & ((1 << totalNodeBits) - 1);
+        Assertions.assertThat(node >>> stripeBits).isEqualTo(42L);
+    }
+
+    @Test
+    void givenNodeIdThatDoesNotFit_whenCreate_shouldThrow() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new TsidGenerator(64, 6, 4));
+    }
+
+    @Test
+    void givenTooManyNodeBits_whenCreate_shouldThrow() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new TsidGenerator(0, 16, 8));
+    }
+}
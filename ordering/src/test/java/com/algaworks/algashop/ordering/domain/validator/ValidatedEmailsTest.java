@@ -0,0 +1,32 @@
+package com.algaworks.algashop.ordering.domain.validator;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ValidatedEmailsTest {
+
+    @Test
+    void shouldContainAddedEmail() {
+        ValidatedEmails emails = new ValidatedEmails(16);
+        emails.add("john.doe@gmail.com");
+
+        Assertions.assertThat(emails.contains("john.doe@gmail.com")).isTrue();
+        Assertions.assertThat(emails.contains("mary.jones@gmail.com")).isFalse();
+    }
+
+    @Test
+    void givenSingleSlot_whenAddAnotherEmail_shouldEvictPrevious() {
+        ValidatedEmails emails = new ValidatedEmails(1);
+        emails.add("john.doe@gmail.com");
+        emails.add("mary.jones@gmail.com");
+
+        Assertions.assertThat(emails.contains("john.doe@gmail.com")).isFalse();
+        Assertions.assertThat(emails.contains("mary.jones@gmail.com")).isTrue();
+    }
+
+    @Test
+    void givenCapacityNotPowerOfTwo_whenCreate_shouldThrow() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ValidatedEmails(1000));
+    }
+}
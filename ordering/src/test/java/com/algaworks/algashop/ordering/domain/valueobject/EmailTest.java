@@ -28,5 +28,33 @@ class EmailTest {
         Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
                 .isThrownBy(() -> new Email("invalid"));
     }
-}
 
+    @Test
+    void shouldStillRejectInvalidFormatAfterValidatingOthers() {
+        new Email("john.doe@gmail.com");
+        new Email("john.doe@gmail.com");
+
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new Email("john.doe@"));
+    }
+
+    @Test
+    void shouldCreateTrustedWithValue() {
+        Email email = Email.trusted("mary.jones@algashop.com");
+        Assertions.assertThat(email).isEqualTo(new Email("mary.jones@algashop.com"));
+    }
+
+    @Test
+    void shouldNotCreateTrustedWhenBlank() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Email.trusted("  "));
+    }
+
+    @Test
+    void givenTrustedValue_whenCreateUntrusted_shouldStillValidate() {
+        Email.trusted("legacy-import");
+
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new Email("legacy-import"));
+    }
+}
@@ -26,4 +26,17 @@ class LoyaltyPointsTest {
         Assertions.assertThat(loyaltyPoints.value()).isEqualTo(10);
     }
 
+    @Test
+    void shouldNotGenerateWithNullValue() {
+        Assertions.assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> new LoyaltyPoints((Integer) null));
+    }
+
+    @Test
+    void shouldReuseCachedInstancesForCommonValues() {
+        Assertions.assertThat(LoyaltyPoints.of(10)).isSameAs(LoyaltyPoints.of(10));
+        Assertions.assertThat(new LoyaltyPoints(10).add(5)).isSameAs(LoyaltyPoints.of(15));
+        Assertions.assertThat(new LoyaltyPoints().compareTo(LoyaltyPoints.of(1))).isLessThan(0);
+    }
+
 }
\ No newline at end of file
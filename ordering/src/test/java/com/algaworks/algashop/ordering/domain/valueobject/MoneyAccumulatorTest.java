@@ -0,0 +1,59 @@
+package com.algaworks.algashop.ordering.domain.valueobject;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+class MoneyAccumulatorTest {
+
+    @Test
+    void shouldStartAtZero() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        Assertions.assertThat(accumulator.toMoney()).isEqualTo(Money.ZERO);
+        Assertions.assertThat(accumulator.toQuantity()).isEqualTo(Quantity.ZERO);
+    }
+
+    @Test
+    void shouldAccumulateMoneyAndQuantity() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+                .add(new Money("10.25"), new Quantity(2))
+                .add(new Money("0.75"))
+                .add(new Quantity(3));
+
+        Assertions.assertThat(accumulator.toMoney()).isEqualTo(new Money("11.00"));
+        Assertions.assertThat(accumulator.toQuantity()).isEqualTo(new Quantity(5));
+    }
+
+    @Test
+    void shouldAccumulateBeyondLongRange() {
+        Money max = new Money(BigDecimal.valueOf(Long.MAX_VALUE, 2));
+
+        Money result = new MoneyAccumulator()
+                .add(max)
+                .add(max)
+                .add(new Money("1"))
+                .toMoney();
+
+        Assertions.assertThat(result.value()).isEqualTo(
+                BigDecimal.valueOf(Long.MAX_VALUE, 2).multiply(new BigDecimal(2)).add(new BigDecimal("1.00")));
+    }
+
+    @Test
+    void shouldStartOverWhenReset() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+                .add(new Money("5"), new Quantity(1));
+
+        accumulator.reset().add(new Money("2"), new Quantity(4));
+
+        Assertions.assertThat(accumulator.toMoney()).isEqualTo(new Money("2"));
+        Assertions.assertThat(accumulator.toQuantity()).isEqualTo(new Quantity(4));
+    }
+
+    @Test
+    void shouldNotAddNull() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        Assertions.assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> accumulator.add((Money) null));
+    }
+}
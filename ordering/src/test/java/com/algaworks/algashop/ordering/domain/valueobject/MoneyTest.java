@@ -33,6 +33,21 @@ class MoneyTest {
         Assertions.assertThat(a.add(b).value()).isEqualTo(new BigDecimal("3.35"));
     }
 
+    @Test
+    void shouldSubtractMoney() {
+        Money a = new Money(new BigDecimal("3.35"));
+        Money b = new Money(new BigDecimal("2.25"));
+        Assertions.assertThat(a.subtract(b).value()).isEqualTo(new BigDecimal("1.10"));
+    }
+
+    @Test
+    void shouldNotSubtractWhenResultIsNegative() {
+        Money a = new Money(new BigDecimal("1.00"));
+        Money b = new Money(new BigDecimal("2.00"));
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> a.subtract(b));
+    }
+
     @Test
     void shouldMultiplyByQuantity() {
         Money a = new Money(new BigDecimal("2.00"));
@@ -63,4 +78,47 @@ class MoneyTest {
         Assertions.assertThat(b.compareTo(a)).isGreaterThan(0);
         Assertions.assertThat(a.compareTo(new Money(new BigDecimal("1.00")))).isZero();
     }
+
+    @Test
+    void shouldRoundHalfEvenOnCreation() {
+        Assertions.assertThat(new Money("2.345").value()).isEqualTo(new BigDecimal("2.34"));
+        Assertions.assertThat(new Money("2.355").value()).isEqualTo(new BigDecimal("2.36"));
+    }
+
+    @Test
+    void shouldBeEqualWhenCalculatedOrCreatedFromSameAmount() {
+        Money calculated = new Money("10.25").multiply(new Quantity(2)).add(new Money("0.50"));
+        Money created = new Money(new BigDecimal("21.0"));
+
+        Assertions.assertThat(calculated).isEqualTo(created);
+        Assertions.assertThat(calculated.hashCode()).isEqualTo(created.hashCode());
+        Assertions.assertThat(calculated.value()).isEqualTo(new BigDecimal("21.00"));
+    }
+
+    @Test
+    void shouldAddBeyondLongRange() {
+        Money max = new Money(BigDecimal.valueOf(Long.MAX_VALUE, 2));
+        Money result = max.add(new Money("0.01"));
+
+        Assertions.assertThat(result.value())
+                .isEqualTo(BigDecimal.valueOf(Long.MAX_VALUE, 2).add(new BigDecimal("0.01")));
+        Assertions.assertThat(result.compareTo(max)).isGreaterThan(0);
+        Assertions.assertThat(result.subtract(new Money("0.01"))).isEqualTo(max);
+    }
+
+    @Test
+    void shouldMultiplyBeyondLongRange() {
+        Money large = new Money(BigDecimal.valueOf(Long.MAX_VALUE / 2, 2));
+        Money result = large.multiply(new Quantity(3));
+
+        Assertions.assertThat(result.value())
+                .isEqualTo(BigDecimal.valueOf(Long.MAX_VALUE / 2, 2).multiply(new BigDecimal(3)));
+    }
+
+    @Test
+    void shouldDivideWithHalfEvenRounding() {
+        Money a = new Money(new BigDecimal("10.00"));
+        Money b = new Money(new BigDecimal("3.00"));
+        Assertions.assertThat(a.divide(b).value()).isEqualTo(new BigDecimal("3.33"));
+    }
 }
@@ -37,6 +37,38 @@ class QuantityTest {
         Assertions.assertThat(result.value()).isEqualTo(5);
     }
 
+    @Test
+    void shouldSubtractQuantities() {
+        Quantity a = new Quantity(5);
+        Quantity b = new Quantity(3);
+        Assertions.assertThat(a.subtract(b).value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotSubtractWhenResultIsNegative() {
+        Quantity a = new Quantity(2);
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> a.subtract(new Quantity(3)));
+    }
+
+    @Test
+    void shouldHaveZeroConstant() {
+        Assertions.assertThat(Quantity.ZERO.value()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldReuseCachedInstancesForCommonValues() {
+        Assertions.assertThat(Quantity.of(10)).isSameAs(Quantity.of(10));
+        Assertions.assertThat(new Quantity(2).add(new Quantity(3))).isSameAs(Quantity.of(5));
+        Assertions.assertThat(Quantity.of(5000)).isEqualTo(new Quantity(5000));
+    }
+
+    @Test
+    void shouldNotCreateFromFactoryWhenValueIsNegative() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Quantity.of(-1));
+    }
+
     @Test
     void shouldNotAddWhenArgumentNull() {
         Quantity a = new Quantity(2);
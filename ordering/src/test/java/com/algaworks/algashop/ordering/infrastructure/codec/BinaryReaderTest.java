@@ -0,0 +1,59 @@
+package com.algaworks.algashop.ordering.infrastructure.codec;
+
+import com.algaworks.algashop.ordering.domain.valueobject.Money;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+class BinaryReaderTest {
+
+    @Test
+    void givenWrittenValues_whenRead_shouldRoundTrip() {
+        Money overflow = new Money("123456789012345678901234567890.25");
+        UUID uuid = UUID.randomUUID();
+        OffsetDateTime dateTime = OffsetDateTime.of(1969, 12, 31, 23, 59, 59, 123_456_789, ZoneOffset.ofHours(-3));
+        BinaryWriter writer = new BinaryWriter(4);
+        writer.writeLong(Long.MIN_VALUE);
+        writer.writeVarLong(-1L);
+        writer.writeSignedVarLong(-42L);
+        writer.writeUuid(uuid);
+        writer.writeMoney(new Money("19.90"));
+        writer.writeMoney(Money.ofMinorUnits(Long.MAX_VALUE));
+        writer.writeMoney(overflow);
+        writer.writeString("São Paulo");
+        writer.writeString(null);
+        writer.writeString("São Paulo");
+        writer.writeDateTime(dateTime);
+        writer.writeDate(LocalDate.of(2025, 4, 1));
+
+        BinaryReader reader = new BinaryReader(writer.toByteArray());
+
+        Assertions.assertThat(reader.readLong()).isEqualTo(Long.MIN_VALUE);
+        Assertions.assertThat(reader.readVarLong()).isEqualTo(-1L);
+        Assertions.assertThat(reader.readSignedVarLong()).isEqualTo(-42L);
+        Assertions.assertThat(reader.readUuid()).isEqualTo(uuid);
+        Assertions.assertThat(reader.readMoney()).isEqualTo(new Money("19.90"));
+        Assertions.assertThat(reader.readMoney()).isEqualTo(Money.ofMinorUnits(Long.MAX_VALUE));
+        Assertions.assertThat(reader.readMoney()).isEqualTo(overflow);
+        Assertions.assertThat(reader.readString()).isEqualTo("São Paulo");
+        Assertions.assertThat(reader.readString()).isNull();
+        Assertions.assertThat(reader.readString()).isEqualTo("São Paulo");
+        Assertions.assertThat(reader.readDateTime()).isEqualTo(dateTime);
+        Assertions.assertThat(reader.readDate()).isEqualTo(LocalDate.of(2025, 4, 1));
+        Assertions.assertThat(reader.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void givenUnknownStringReference_whenRead_shouldThrow() {
+        BinaryWriter writer = new BinaryWriter(4);
+        writer.writeVarInt(4);
+
+        BinaryReader reader = new BinaryReader(writer.toByteArray());
+
+        Assertions.assertThatIllegalArgumentException().isThrownBy(reader::readString);
+    }
+}
@@ -0,0 +1,153 @@
+package com.algaworks.algashop.ordering.infrastructure.codec;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.OrderItem;
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.entity.OrderTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.entity.ProductTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+class OrderBinaryCodecTest {
+
+    private final OrderBinaryCodec codec = new OrderBinaryCodec();
+
+    @Test
+    void givenPaidOrder_whenEncodeAndDecode_shouldRestoreEveryField() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).build();
+
+        Order decoded = codec.decode(codec.encode(order));
+
+        Assertions.assertWith(decoded,
+                o -> Assertions.assertThat(o.id()).isEqualTo(order.id()),
+                o -> Assertions.assertThat(o.customerId()).isEqualTo(order.customerId()),
+                o -> Assertions.assertThat(o.totalAmount()).isEqualTo(order.totalAmount()),
+                o -> Assertions.assertThat(o.totalItems()).isEqualTo(order.totalItems()),
+                o -> Assertions.assertThat(o.status()).isEqualTo(OrderStatus.PAID),
+                o -> Assertions.assertThat(o.placedAt()).isEqualTo(order.placedAt()),
+                o -> Assertions.assertThat(o.paidAt()).isEqualTo(order.paidAt()),
+                o -> Assertions.assertThat(o.canceledAt()).isNull(),
+                o -> Assertions.assertThat(o.readyAt()).isNull(),
+                o -> Assertions.assertThat(o.billing()).isEqualTo(order.billing()),
+                o -> Assertions.assertThat(o.shipping()).isEqualTo(order.shipping()),
+                o -> Assertions.assertThat(o.paymentMethod()).isEqualTo(order.paymentMethod()),
+                o -> Assertions.assertThat(o.items()).hasSize(order.items().size())
+        );
+        Iterator<OrderItem> decodedItems = decoded.items().iterator();
+        for (OrderItem item : order.items()) {
+            OrderItem decodedItem = decodedItems.next();
+            Assertions.assertWith(decodedItem,
+                    i -> Assertions.assertThat(i.id()).isEqualTo(item.id()),
+                    i -> Assertions.assertThat(i.orderId()).isEqualTo(order.id()),
+                    i -> Assertions.assertThat(i.productId()).isEqualTo(item.productId()),
+                    i -> Assertions.assertThat(i.productName()).isEqualTo(item.productName()),
+                    i -> Assertions.assertThat(i.price()).isEqualTo(item.price()),
+                    i -> Assertions.assertThat(i.quantity()).isEqualTo(item.quantity()),
+                    i -> Assertions.assertThat(i.totalAmount()).isEqualTo(item.totalAmount())
+            );
+        }
+    }
+
+    @Test
+    void givenEmptyDraftOrder_whenEncodeAndDecode_shouldKeepAbsentFieldsNull() {
+        Order order = Order.draft(new CustomerId());
+
+        Order decoded = codec.decode(codec.encode(order));
+
+        Assertions.assertWith(decoded,
+                o -> Assertions.assertThat(o.id()).isEqualTo(order.id()),
+                o -> Assertions.assertThat(o.status()).isEqualTo(OrderStatus.DRAFT),
+                o -> Assertions.assertThat(o.billing()).isNull(),
+                o -> Assertions.assertThat(o.shipping()).isNull(),
+                o -> Assertions.assertThat(o.paymentMethod()).isNull(),
+                o -> Assertions.assertThat(o.placedAt()).isNull(),
+                o -> Assertions.assertThat(o.items()).isEmpty()
+        );
+    }
+
+    @Test
+    void givenOrderWithSameBillingAndShippingAddress_whenEncode_shouldWriteRepeatedStringsOnce() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        String street = order.billing().address().street();
+
+        byte[] snapshot = codec.encode(order);
+
+        Assertions.assertThat(occurrences(snapshot, street.getBytes())).isEqualTo(1);
+    }
+
+    @Test
+    void givenTruncatedSnapshot_whenDecode_shouldThrow() {
+        byte[] snapshot = codec.encode(OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build());
+
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> codec.decode(Arrays.copyOf(snapshot, snapshot.length - 3)));
+    }
+
+    @Test
+    void givenShoppingCartSnapshot_whenDecodeAsOrder_shouldRejectFormat() {
+        byte[] snapshot = new ShoppingCartBinaryCodec().encode(ShoppingCartTestDataBuilder.aShoppingCart().build());
+
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> codec.decode(snapshot));
+    }
+
+    @Test
+    void givenSnapshotWithInvalidBillingEmail_whenDecode_shouldThrow() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        byte[] snapshot = codec.encode(order);
+        byte[] email = order.billing().email().value().getBytes(StandardCharsets.UTF_8);
+        int position = indexOf(snapshot, email);
+        snapshot[position + order.billing().email().value().indexOf('@')] = '#';
+
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> codec.decode(snapshot));
+    }
+
+    @Test
+    void givenOrderWithManyItems_whenEncode_shouldBeLessThanHalfTheJacksonSize() throws Exception {
+        Order order = Order.draft(new CustomerId());
+        for (int i = 0; i < 100; i++) {
+            order.addItem(ProductTestDataBuilder.aProduct().build(), Quantity.of(2));
+        }
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+
+        byte[] binary = codec.encode(order);
+        byte[] json = objectMapper.writeValueAsBytes(order);
+
+        Assertions.assertThat(binary.length).isLessThan(json.length / 2);
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            if (Arrays.equals(haystack, i, i + needle.length, needle, 0, needle.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int occurrences(byte[] haystack, byte[] needle) {
+        int count = 0;
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            if (Arrays.equals(haystack, i, i + needle.length, needle, 0, needle.length)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
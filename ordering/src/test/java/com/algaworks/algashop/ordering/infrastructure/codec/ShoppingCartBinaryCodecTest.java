@@ -0,0 +1,63 @@
+package com.algaworks.algashop.ordering.infrastructure.codec;
+
+import com.algaworks.algashop.ordering.domain.entity.ProductTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartItem;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+class ShoppingCartBinaryCodecTest {
+
+    private final ShoppingCartBinaryCodec codec = new ShoppingCartBinaryCodec();
+
+    @Test
+    void givenCartWithUnavailableItem_whenEncodeAndDecode_shouldRestoreEveryField() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        ShoppingCartItem first = cart.items().iterator().next();
+        Product unavailable = ProductTestDataBuilder.aProduct()
+                .id(first.productId())
+                .inStock(false)
+                .build();
+        cart.refreshItem(unavailable);
+
+        ShoppingCart decoded = codec.decode(codec.encode(cart));
+
+        Assertions.assertWith(decoded,
+                c -> Assertions.assertThat(c.id()).isEqualTo(cart.id()),
+                c -> Assertions.assertThat(c.customerId()).isEqualTo(cart.customerId()),
+                c -> Assertions.assertThat(c.totalAmount()).isEqualTo(cart.totalAmount()),
+                c -> Assertions.assertThat(c.totalItems()).isEqualTo(cart.totalItems()),
+                c -> Assertions.assertThat(c.createdAt()).isEqualTo(cart.createdAt()),
+                c -> Assertions.assertThat(c.containsUnavailableItems()).isTrue(),
+                c -> Assertions.assertThat(c.items()).hasSize(cart.items().size())
+        );
+        Iterator<ShoppingCartItem> decodedItems = decoded.items().iterator();
+        for (ShoppingCartItem item : cart.items()) {
+            ShoppingCartItem decodedItem = decodedItems.next();
+            Assertions.assertWith(decodedItem,
+                    i -> Assertions.assertThat(i.id()).isEqualTo(item.id()),
+                    i -> Assertions.assertThat(i.shoppingCartId()).isEqualTo(cart.id()),
+                    i -> Assertions.assertThat(i.productId()).isEqualTo(item.productId()),
+                    i -> Assertions.assertThat(i.productName()).isEqualTo(item.productName()),
+                    i -> Assertions.assertThat(i.price()).isEqualTo(item.price()),
+                    i -> Assertions.assertThat(i.quantity()).isEqualTo(item.quantity()),
+                    i -> Assertions.assertThat(i.isAvailable()).isEqualTo(item.isAvailable()),
+                    i -> Assertions.assertThat(i.totalAmount()).isEqualTo(item.totalAmount())
+            );
+        }
+    }
+
+    @Test
+    void givenEmptyCart_whenEncodeAndDecode_shouldStayEmpty() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+
+        ShoppingCart decoded = codec.decode(codec.encode(cart));
+
+        Assertions.assertThat(decoded.isEmpty()).isTrue();
+        Assertions.assertThat(decoded.id()).isEqualTo(cart.id());
+    }
+}
@@ -0,0 +1,266 @@
+package com.algaworks.algashop.ordering.infrastructure.event;
+
+import com.algaworks.algashop.ordering.domain.event.DomainEvent;
+import com.algaworks.algashop.ordering.domain.event.OrderPaidEvent;
+import com.algaworks.algashop.ordering.domain.event.OrderPlacedEvent;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+class RingBufferEventBusTest {
+
+    private static final CustomerId CUSTOMER_ID = new CustomerId();
+    private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+    @Test
+    void givenPublishedEvents_whenClose_shouldDeliverAllInOrder() {
+        RingBufferEventBus eventBus = new RingBufferEventBus(8);
+        List<DomainEvent> received = new ArrayList<>();
+        eventBus.subscribe((event, sequence, endOfBatch) -> received.add(event));
+        List<DomainEvent> published = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            published.add(new OrderPlacedEvent(new OrderId(), CUSTOMER_ID, NOW));
+        }
+
+        published.forEach(eventBus::publish);
+        eventBus.close();
+
+        Assertions.assertThat(received).isEqualTo(published);
+        Assertions.assertThat(eventBus.consumedCount()).isEqualTo(1_000);
+    }
+
+    @Test
+    void givenFullRing_whenPublishFromVirtualThreads_shouldDeliverEveryEventOnPlatformDispatcher() {
+        RingBufferEventBus eventBus = new RingBufferEventBus(4);
+        AtomicLong received = new AtomicLong();
+        AtomicLong onVirtualThread = new AtomicLong();
+        eventBus.subscribe((event, sequence, endOfBatch) -> {
+            received.incrementAndGet();
+            if (Thread.currentThread().isVirtual()) {
+                onVirtualThread.incrementAndGet();
+            }
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1_000; i++) {
+                executor.submit(() -> eventBus.publish(new OrderPlacedEvent(new OrderId(), CUSTOMER_ID, NOW)));
+            }
+        }
+        eventBus.close();
+
+        Assertions.assertThat(received.get()).isEqualTo(1_000L);
+        Assertions.assertThat(onVirtualThread.get()).isZero();
+    }
+
+    @Test
+    void givenAsyncSubscriber_whenClose_shouldHaveHandledEveryEventInOrderOnVirtualThreads() {
+        RingBufferEventBus eventBus = new RingBufferEventBus(8);
+        List<Long> sequences = new ArrayList<>();
+        AtomicLong onPlatformThread = new AtomicLong();
+        eventBus.subscribe((event, sequence, endOfBatch) -> {
+            sequences.add(sequence);
+            if (!Thread.currentThread().isVirtual()) {
+                onPlatformThread.incrementAndGet();
+            }
+        }, task -> Thread.ofVirtual().start(task));
+
+        for (int i = 0; i < 1_000; i++) {
+            eventBus.publish(new OrderPlacedEvent(new OrderId(), CUSTOMER_ID, NOW));
+        }
+        eventBus.close();
+
+        Assertions.assertThat(sequences).hasSize(1_000);
+        for (int i = 0; i < sequences.size(); i++) {
+            Assertions.assertThat(sequences.get(i)).isEqualTo((long) i);
+        }
+        Assertions.assertThat(onPlatformThread.get()).isZero();
+    }
+
+    @Test
+    void givenBatchLargerThanCapacity_whenPublishAll_shouldDeliverEveryEvent() {
+        RingBufferEventBus eventBus = new RingBufferEventBus(4);
+        List<DomainEvent> received = new ArrayList<>();
+        eventBus.subscribe((event, sequence, endOfBatch) -> received.add(event));
+        List<DomainEvent> published = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            published.add(new OrderPlacedEvent(new OrderId(), CUSTOMER_ID, NOW));
+        }
+
+        eventBus.publishAll(published);
+        eventBus.close();
+
+        Assertions.assertThat(received).isEqualTo(published);
+    }
+
+    @Test
+    void givenConcurrentProducers_whenPublish_shouldDeliverEachEventOnceWithIncreasingSequences() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        RingBufferEventBus eventBus = new RingBufferEventBus(1024);
+        AtomicLong lastSequence = new AtomicLong(-1);
+        AtomicLong outOfOrder = new AtomicLong();
+        AtomicLong endOfBatchCount = new AtomicLong();
+        eventBus.subscribe((event, sequence, endOfBatch) -> {
+            if (sequence != lastSequence.get() + 1) {
+                outOfOrder.incrementAndGet();
+            }
+            lastSequence.set(sequence);
+            if (endOfBatch) {
+                endOfBatchCount.incrementAndGet();
+            }
+        });
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                OrderPlacedEvent event = new OrderPlacedEvent(new OrderId(), CUSTOMER_ID, NOW);
+                for (int i = 0; i < perProducer; i++) {
+                    eventBus.publish(event);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        eventBus.close();
+
+        Assertions.assertThat(lastSequence.get()).isEqualTo((long) producers * perProducer - 1);
+        Assertions.assertThat(outOfOrder.get()).isZero();
+        Assertions.assertThat(endOfBatchCount.get()).isPositive();
+    }
+
+    @Test
+    void givenConcurrentProducers_whenClose_shouldDeliverEveryAcceptedEvent() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            RingBufferEventBus eventBus = new RingBufferEventBus(64);
+            AtomicLong handled = new AtomicLong();
+            AtomicLong accepted = new AtomicLong();
+            eventBus.subscribe((event, sequence, endOfBatch) -> handled.incrementAndGet());
+
+            List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                threads.add(Thread.ofPlatform().start(() -> {
+                    OrderPlacedEvent event = new OrderPlacedEvent(new OrderId(), CUSTOMER_ID, NOW);
+                    try {
+                        while (true) {
+                            eventBus.publish(event);
+                            accepted.incrementAndGet();
+                        }
+                    } catch (IllegalStateException closed) {
+                    }
+                }));
+            }
+            while (accepted.get() < 1_000) {
+                Thread.onSpinWait();
+            }
+            eventBus.close();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            Assertions.assertThat(handled.get()).isEqualTo(accepted.get());
+            Assertions.assertThat(eventBus.consumedCount()).isEqualTo(eventBus.publishedCount());
+        }
+    }
+
+    @Test
+    void givenPublisherFailingMidway_whenPublishAll_shouldKeepDeliveringLaterEvents() {
+        RingBufferEventBus eventBus = new RingBufferEventBus(8);
+        List<DomainEvent> received = new ArrayList<>();
+        eventBus.subscribe((event, sequence, endOfBatch) -> received.add(event));
+        OrderPlacedEvent first = new OrderPlacedEvent(new OrderId(), CUSTOMER_ID, NOW);
+        Collection<DomainEvent> failing = new AbstractCollection<>() {
+            @Override
+            public Iterator<DomainEvent> iterator() {
+                return new Iterator<>() {
+                    private int position;
+
+                    @Override
+                    public boolean hasNext() {
+                        return position < 3;
+                    }
+
+                    @Override
+                    public DomainEvent next() {
+                        if (position++ == 1) {
+                            throw new IllegalStateException("source failed");
+                        }
+                        return first;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return 3;
+            }
+        };
+        List<DomainEvent> nulls = new ArrayList<>();
+        nulls.add(first);
+        nulls.add(null);
+        OrderPaidEvent later = new OrderPaidEvent(new OrderId(), CUSTOMER_ID, NOW);
+
+        Assertions.assertThatIllegalStateException().isThrownBy(() -> eventBus.publishAll(failing));
+        Assertions.assertThatNullPointerException().isThrownBy(() -> eventBus.publishAll(nulls));
+        eventBus.publish(later);
+        eventBus.close();
+
+        Assertions.assertThat(received).containsExactly(later);
+    }
+
+    @Test
+    void givenTypedSubscriber_whenPublish_shouldReceiveOnlyMatchingEvents() {
+        RingBufferEventBus eventBus = new RingBufferEventBus(16);
+        List<OrderPaidEvent> received = new ArrayList<>();
+        eventBus.subscribe(OrderPaidEvent.class, received::add);
+        OrderPaidEvent paid = new OrderPaidEvent(new OrderId(), CUSTOMER_ID, NOW);
+
+        eventBus.publish(new OrderPlacedEvent(paid.orderId(), CUSTOMER_ID, NOW));
+        eventBus.publish(paid);
+        eventBus.close();
+
+        Assertions.assertThat(received).containsExactly(paid);
+    }
+
+    @Test
+    void givenFailingHandler_whenPublish_shouldKeepDeliveringToOthers() {
+        RingBufferEventBus eventBus = new RingBufferEventBus(16);
+        List<DomainEvent> received = new ArrayList<>();
+        eventBus.subscribe((event, sequence, endOfBatch) -> {
+            throw new IllegalStateException("boom");
+        });
+        eventBus.subscribe((event, sequence, endOfBatch) -> received.add(event));
+
+        eventBus.publish(new OrderPlacedEvent(new OrderId(), CUSTOMER_ID, NOW));
+        eventBus.publish(new OrderPlacedEvent(new OrderId(), CUSTOMER_ID, NOW));
+        eventBus.close();
+
+        Assertions.assertThat(received).hasSize(2);
+    }
+
+    @Test
+    void givenClosedBus_whenPublish_shouldThrow() {
+        RingBufferEventBus eventBus = new RingBufferEventBus(16);
+        eventBus.close();
+
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> eventBus.publish(new OrderPlacedEvent(new OrderId(), CUSTOMER_ID, NOW)));
+    }
+
+    @Test
+    void givenCapacityNotPowerOfTwo_whenCreate_shouldThrow() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new RingBufferEventBus(100));
+    }
+}
@@ -0,0 +1,112 @@
+package com.algaworks.algashop.ordering.infrastructure.json;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.ProductTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.valueobject.Email;
+import com.algaworks.algashop.ordering.domain.valueobject.Money;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.ZipCode;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+class OrderingJacksonModuleTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new OrderingJacksonModule());
+
+    record Line(OrderId orderId, CustomerId customerId, Money price, Quantity quantity, ZipCode zipCode, Email email) {
+    }
+
+    @Test
+    void givenValueObjects_whenSerialize_shouldWriteFlatScalars() throws Exception {
+        UUID customer = UUID.fromString("0193a6b2-7c1e-7000-8000-000000000001");
+        Line line = new Line(new OrderId("0AKRHYJHYRDW1"), new CustomerId(customer), new Money("12.3"),
+                Quantity.of(2), new ZipCode("12345"), new Email("john.doe@gmail.com"));
+
+        String json = objectMapper.writeValueAsString(line);
+
+        Assertions.assertThat(json).isEqualTo("{\"orderId\":\"0AKRHYJHYRDW1\","
+                + "\"customerId\":\"0193a6b2-7c1e-7000-8000-000000000001\","
+                + "\"price\":12.30,\"quantity\":2,\"zipCode\":\"12345\",\"email\":\"john.doe@gmail.com\"}");
+    }
+
+    @Test
+    void givenSerializedValueObjects_whenDeserialize_shouldRestoreThem() throws Exception {
+        Line line = new Line(new OrderId(), new CustomerId(), new Money("1999.99"),
+                Quantity.of(7), new ZipCode("54321"), new Email("jane.doe@gmail.com"));
+
+        Line read = objectMapper.readValue(objectMapper.writeValueAsString(line), Line.class);
+
+        Assertions.assertThat(read).isEqualTo(line);
+    }
+
+    @Test
+    void givenOrderWithItems_whenSerializeWithModule_shouldBeSmallerThanReflective() throws Exception {
+        Order order = Order.draft(new CustomerId());
+        for (int i = 0; i < 20; i++) {
+            order.addItem(ProductTestDataBuilder.aProduct().build(), Quantity.of(2));
+        }
+        ObjectMapper reflective = fieldMapper();
+        ObjectMapper withModule = fieldMapper().registerModule(new OrderingJacksonModule());
+
+        Assertions.assertThat(withModule.writeValueAsBytes(order).length)
+                .isLessThan(reflective.writeValueAsBytes(order).length);
+    }
+
+    @Test
+    void givenSmallAndHugeAmounts_whenSerialize_shouldKeepTwoDecimals() throws Exception {
+        Assertions.assertThat(objectMapper.writeValueAsString(Money.ZERO)).isEqualTo("0.00");
+        Assertions.assertThat(objectMapper.writeValueAsString(new Money("0.05"))).isEqualTo("0.05");
+        Assertions.assertThat(objectMapper.writeValueAsString(new Money("92233720368547758.08")))
+                .isEqualTo("92233720368547758.08");
+    }
+
+    @Test
+    void givenNumericOrderIdAndQuotedAmount_whenDeserialize_shouldAcceptThem() throws Exception {
+        OrderId orderId = new OrderId();
+
+        Assertions.assertThat(objectMapper.readValue(Long.toString(orderId.value().toLong()), OrderId.class))
+                .isEqualTo(orderId);
+        Assertions.assertThat(objectMapper.readValue("\"10.5\"", Money.class)).isEqualTo(new Money("10.50"));
+    }
+
+    @Test
+    void givenInvalidValues_whenDeserialize_shouldFailWithInvalidFormat() {
+        Assertions.assertThatThrownBy(() -> objectMapper.readValue("\"not-a-tsid\"", OrderId.class))
+                .isInstanceOf(InvalidFormatException.class);
+        Assertions.assertThatThrownBy(() -> objectMapper.readValue("\"42\"", CustomerId.class))
+                .isInstanceOf(InvalidFormatException.class);
+        Assertions.assertThatThrownBy(() -> objectMapper.readValue("-1.00", Money.class))
+                .isInstanceOf(InvalidFormatException.class);
+        Assertions.assertThatThrownBy(() -> objectMapper.readValue("-1", Quantity.class))
+                .isInstanceOf(InvalidFormatException.class);
+        Assertions.assertThatThrownBy(() -> objectMapper.readValue("\"123\"", ZipCode.class))
+                .isInstanceOf(InvalidFormatException.class);
+        Assertions.assertThatThrownBy(() -> objectMapper.readValue("\"invalid\"", Email.class))
+                .isInstanceOf(InvalidFormatException.class);
+    }
+
+    @Test
+    void givenObjectInsteadOfScalar_whenDeserialize_shouldFailWithMismatchedInput() {
+        Assertions.assertThatThrownBy(() -> objectMapper.readValue("{\"value\":\"12345\"}", ZipCode.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+
+    private static ObjectMapper fieldMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+    }
+}
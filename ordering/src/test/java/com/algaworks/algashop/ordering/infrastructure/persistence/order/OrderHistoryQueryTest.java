@@ -0,0 +1,116 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.entity.OrderTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.event.DomainEventPublisher;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+class OrderHistoryQueryTest {
+
+    private EmbeddedDatabase database;
+    private OrderJdbcRepository repository;
+    private OrderHistoryQuery query;
+
+    private final CustomerId customerId = new CustomerId();
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        repository = new OrderJdbcRepository(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(database)),
+                DomainEventPublisher.DISCARDING);
+        query = new OrderHistoryQuery(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void givenCustomerOrders_whenPaging_shouldWalkNewestFirstUsingCursor() {
+        List<OrderId> placed = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Order order = OrderTestDataBuilder.anOrder().customerId(customerId).status(OrderStatus.PLACED).build();
+            repository.add(order);
+            placed.add(order.id());
+        }
+        repository.add(OrderTestDataBuilder.anOrder().build());
+
+        List<OrderId> firstPage = new ArrayList<>();
+        Optional<OrderId> cursor = query.forEach(customerId, null, 2, summary -> firstPage.add(summary.id()));
+        Assertions.assertThat(firstPage).containsExactly(placed.get(4), placed.get(3));
+        Assertions.assertThat(cursor).contains(placed.get(3));
+
+        List<OrderId> secondPage = new ArrayList<>();
+        cursor = query.forEach(customerId, cursor.orElseThrow(), 2, summary -> secondPage.add(summary.id()));
+        Assertions.assertThat(secondPage).containsExactly(placed.get(2), placed.get(1));
+        Assertions.assertThat(cursor).contains(placed.get(1));
+
+        List<OrderId> lastPage = new ArrayList<>();
+        cursor = query.forEach(customerId, cursor.orElseThrow(), 2, summary -> lastPage.add(summary.id()));
+        Assertions.assertThat(lastPage).containsExactly(placed.get(0));
+        Assertions.assertThat(cursor).isEmpty();
+    }
+
+    @Test
+    void givenPlacedOrder_whenQuery_shouldMapSummary() {
+        Order order = OrderTestDataBuilder.anOrder().customerId(customerId).status(OrderStatus.PAID).build();
+        repository.add(order);
+
+        List<OrderSummary> summaries = new ArrayList<>();
+        query.forEach(customerId, null, 10, summaries::add);
+
+        Assertions.assertThat(summaries).hasSize(1);
+        Assertions.assertWith(summaries.getFirst(),
+                s -> Assertions.assertThat(s.id()).isEqualTo(order.id()),
+                s -> Assertions.assertThat(s.status()).isEqualTo(OrderStatus.PAID),
+                s -> Assertions.assertThat(s.totalAmount()).isEqualTo(order.totalAmount()),
+                s -> Assertions.assertThat(s.totalItems()).isEqualTo(order.totalItems()),
+                s -> Assertions.assertThat(s.placedAt()).isNotNull(),
+                s -> Assertions.assertThat(s.paidAt()).isNotNull(),
+                s -> Assertions.assertThat(s.canceledAt()).isNull(),
+                s -> Assertions.assertThat(s.readyAt()).isNull()
+        );
+    }
+
+    @Test
+    void givenCustomerWithoutOrders_whenQuery_shouldReturnEmptyPage() {
+        List<OrderSummary> summaries = new ArrayList<>();
+
+        Optional<OrderId> cursor = query.forEach(customerId, null, 10, summaries::add);
+
+        Assertions.assertThat(summaries).isEmpty();
+        Assertions.assertThat(cursor).isEmpty();
+    }
+
+    @Test
+    void givenPageSizeOutOfRange_whenQuery_shouldFail() {
+        Assertions.assertThatThrownBy(() -> query.forEach(customerId, null, 0, summary -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> query.forEach(customerId, null,
+                        OrderHistoryQuery.MAX_PAGE_SIZE + 1, summary -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,225 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.OrderItem;
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.entity.OrderTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.entity.PaymentMethod;
+import com.algaworks.algashop.ordering.domain.event.DomainEvent;
+import com.algaworks.algashop.ordering.domain.event.OrderPlacedEvent;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+class OrderJdbcRepositoryTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private OrderJdbcRepository repository;
+    private final List<DomainEvent> publishedEvents = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        repository = newRepository();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void givenPlacedOrder_whenAddAndLoad_shouldRestoreAggregate() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+
+        repository.add(order);
+        Order loaded = newRepository().ofId(order.id()).orElseThrow();
+
+        Assertions.assertWith(loaded,
+                o -> Assertions.assertThat(o.id()).isEqualTo(order.id()),
+                o -> Assertions.assertThat(o.customerId()).isEqualTo(order.customerId()),
+                o -> Assertions.assertThat(o.status()).isEqualTo(OrderStatus.PLACED),
+                o -> Assertions.assertThat(o.placedAt()).isNotNull(),
+                o -> Assertions.assertThat(o.paymentMethod()).isEqualTo(order.paymentMethod()),
+                o -> Assertions.assertThat(o.totalAmount()).isEqualTo(order.totalAmount()),
+                o -> Assertions.assertThat(o.totalItems()).isEqualTo(order.totalItems()),
+                o -> Assertions.assertThat(o.billing()).isEqualTo(order.billing()),
+                o -> Assertions.assertThat(o.shipping()).isEqualTo(order.shipping()),
+                o -> Assertions.assertThat(o.items()).containsExactlyInAnyOrderElementsOf(order.items())
+        );
+    }
+
+    @Test
+    void givenPlacedOrder_whenAdd_shouldPublishAndClearItsEvents() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+
+        repository.add(order);
+
+        Assertions.assertThat(publishedEvents).hasSize(3);
+        Assertions.assertThat(publishedEvents.getLast())
+                .isEqualTo(new OrderPlacedEvent(order.id(), order.customerId(), order.placedAt()));
+        Assertions.assertThat(order.domainEvents()).isEmpty();
+    }
+
+    @Test
+    void givenEmptyDraftOrder_whenAddAndLoad_shouldRestoreWithoutBillingAndShipping() {
+        Order order = Order.draft(new CustomerId());
+
+        repository.add(order);
+
+        Assertions.assertWith(repository.ofId(order.id()).orElseThrow(),
+                o -> Assertions.assertThat(o.isDraft()).isTrue(),
+                o -> Assertions.assertThat(o.billing()).isNull(),
+                o -> Assertions.assertThat(o.shipping()).isNull(),
+                o -> Assertions.assertThat(o.items()).isEmpty()
+        );
+    }
+
+    @Test
+    void givenUnknownOrder_whenOfId_shouldReturnEmpty() {
+        OrderId orderId = new OrderId();
+
+        Assertions.assertThat(repository.ofId(orderId)).isEmpty();
+        Assertions.assertThat(repository.exists(orderId)).isFalse();
+    }
+
+    @Test
+    void givenSavedOrder_whenOneItemChanges_shouldRewriteOnlyThatItem() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        repository.add(order);
+        jdbcTemplate.update("UPDATE order_item SET product_name = 'Untouched'");
+
+        Iterator<OrderItem> items = order.items().iterator();
+        OrderItem changedItem = items.next();
+        OrderItem unchangedItem = items.next();
+        order.changeItemQuantity(changedItem.id(), new Quantity(5));
+        repository.add(order);
+
+        Assertions.assertThat(productName(changedItem)).isEqualTo(changedItem.productName().value());
+        Assertions.assertThat(productName(unchangedItem)).isEqualTo("Untouched");
+        Assertions.assertThat(repository.ofId(order.id()).orElseThrow().totalAmount()).isEqualTo(order.totalAmount());
+    }
+
+    @Test
+    void givenSavedOrder_whenItemRemovedWithNewRepository_shouldDeleteItemRow() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        repository.add(order);
+
+        OrderItem removedItem = order.items().iterator().next();
+        order.removeItem(removedItem.id());
+        newRepository().add(order);
+
+        Assertions.assertThat(repository.ofId(order.id()).orElseThrow().items())
+                .hasSize(1)
+                .doesNotContain(removedItem);
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_item", Long.class))
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void givenManyOrders_whenAddAll_shouldPersistAll() {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            orders.add(OrderTestDataBuilder.anOrder().build());
+        }
+
+        repository.addAll(orders);
+        repository.addAll(orders);
+
+        Assertions.assertThat(repository.count()).isEqualTo(1200);
+        Assertions.assertThat(repository.exists(orders.get(1199).id())).isTrue();
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_item", Long.class))
+                .isEqualTo(2400L);
+    }
+
+    @Test
+    void givenTwoCopiesOfSameOrder_whenBothChangedAndAdded_shouldRejectTheStaleOne() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        repository.add(order);
+        Order first = repository.ofId(order.id()).orElseThrow();
+        Order second = repository.ofId(order.id()).orElseThrow();
+
+        first.changePaymentMethod(PaymentMethod.CREDIT_CARD);
+        repository.add(first);
+        second.changeItemQuantity(second.items().iterator().next().id(), new Quantity(7));
+
+        Assertions.assertThatExceptionOfType(OptimisticLockingFailureException.class)
+                .isThrownBy(() -> repository.add(second));
+        Assertions.assertWith(repository.ofId(order.id()).orElseThrow(),
+                o -> Assertions.assertThat(o.paymentMethod()).isEqualTo(PaymentMethod.CREDIT_CARD),
+                o -> Assertions.assertThat(o.totalItems()).isEqualTo(first.totalItems())
+        );
+        Assertions.assertThat(version(order)).isEqualTo(1L);
+    }
+
+    @Test
+    void givenOrderChangedByExternalWriter_whenAddLoadedCopy_shouldRejectAndAcceptAfterReload() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        repository.add(order);
+        Order loaded = repository.ofId(order.id()).orElseThrow();
+        jdbcTemplate.update("UPDATE orders SET version = version + 1 WHERE id = ?", order.id().value().toLong());
+
+        loaded.changePaymentMethod(PaymentMethod.CREDIT_CARD);
+
+        Assertions.assertThatExceptionOfType(OptimisticLockingFailureException.class)
+                .isThrownBy(() -> repository.add(loaded));
+
+        Order reloaded = repository.ofId(order.id()).orElseThrow();
+        reloaded.changePaymentMethod(PaymentMethod.CREDIT_CARD);
+        repository.add(reloaded);
+
+        Assertions.assertThat(version(order)).isEqualTo(2L);
+    }
+
+    @Test
+    void givenSavedOrder_whenAddedUnchangedThenChanged_shouldIncrementVersionOnlyOnChange() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        repository.add(order);
+        OrderItem item = order.items().iterator().next();
+
+        order.changeItemQuantity(item.id(), item.quantity());
+        repository.add(order);
+        Assertions.assertThat(version(order)).isZero();
+
+        order.removeItem(item.id());
+        repository.add(order);
+        Assertions.assertThat(version(order)).isEqualTo(1L);
+    }
+
+    private Long version(Order order) {
+        return jdbcTemplate.queryForObject("SELECT version FROM orders WHERE id = ?",
+                Long.class, order.id().value().toLong());
+    }
+
+    private String productName(OrderItem orderItem) {
+        return jdbcTemplate.queryForObject("SELECT product_name FROM order_item WHERE id = ?",
+                String.class, orderItem.id().value().toLong());
+    }
+
+    private OrderJdbcRepository newRepository() {
+        return new OrderJdbcRepository(jdbcTemplate, transactionTemplate, publishedEvents::add);
+    }
+}
@@ -0,0 +1,145 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.orderlifecycle;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.entity.OrderTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.valueobject.id.OrderId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+class OrderLifecycleLogTest {
+
+    private static final int THREE_RECORDS = 3 * OrderLifecycleSegments.RECORD_SIZE;
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 4, 1, 12, 30, 15, 123_456_000, ZoneOffset.UTC);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenAppendedTransitions_whenPoll_shouldReadThemInOrder() {
+        OrderId orderId = new OrderId();
+        try (OrderLifecycleLog log = new OrderLifecycleLog(directory, THREE_RECORDS)) {
+            log.append(orderId, OrderStatus.PLACED, NOW);
+            log.append(orderId, OrderStatus.PAID, NOW.plusMinutes(1));
+        }
+
+        List<OrderLifecycleEntry> entries = readAll();
+
+        Assertions.assertThat(entries).containsExactly(
+                new OrderLifecycleEntry(orderId, OrderStatus.PLACED, NOW),
+                new OrderLifecycleEntry(orderId, OrderStatus.PAID, NOW.plusMinutes(1)));
+    }
+
+    @Test
+    void givenPlacedOrder_whenAppend_shouldRecordPlacedAt() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        try (OrderLifecycleLog log = new OrderLifecycleLog(directory, THREE_RECORDS)) {
+            log.append(order);
+        }
+
+        List<OrderLifecycleEntry> entries = readAll();
+
+        Assertions.assertThat(entries).containsExactly(new OrderLifecycleEntry(order.id(), OrderStatus.PLACED,
+                order.placedAt().withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS)));
+    }
+
+    @Test
+    void givenMoreRecordsThanSegmentHolds_whenAppend_shouldRollSegments() throws Exception {
+        List<OrderId> orderIds = appendPlaced(new OrderLifecycleLog(directory, THREE_RECORDS), 7);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertThat(files.filter(file -> file.toString().endsWith(".log"))).hasSize(3);
+        }
+        Assertions.assertThat(readOrderIds()).isEqualTo(orderIds);
+    }
+
+    @Test
+    void givenReopenedLog_whenAppend_shouldContinueAfterLastRecord() {
+        List<OrderId> orderIds = new ArrayList<>(appendPlaced(new OrderLifecycleLog(directory, THREE_RECORDS), 2));
+        orderIds.addAll(appendPlaced(new OrderLifecycleLog(directory, THREE_RECORDS), 2));
+
+        Assertions.assertThat(readOrderIds()).isEqualTo(orderIds);
+    }
+
+    @Test
+    void givenConcurrentWriter_whenTailing_shouldSeeEveryRecordInOrder() throws Exception {
+        int total = 20_000;
+        OrderLifecycleLog log = new OrderLifecycleLog(directory, 100 * OrderLifecycleSegments.RECORD_SIZE);
+        List<OrderId> written = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            written.add(new OrderId());
+        }
+
+        Thread writer = Thread.ofPlatform().start(() -> {
+            for (OrderId orderId : written) {
+                log.append(orderId, OrderStatus.PLACED, NOW);
+            }
+        });
+
+        OrderLifecycleLogReader reader = new OrderLifecycleLogReader(directory, 100 * OrderLifecycleSegments.RECORD_SIZE);
+        List<OrderId> read = new ArrayList<>(total);
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (read.size() < total && System.nanoTime() < deadline) {
+            if (reader.poll(entry -> read.add(entry.orderId()), 256) == 0) {
+                Thread.onSpinWait();
+            }
+        }
+        writer.join();
+        log.close();
+
+        Assertions.assertThat(read).isEqualTo(written);
+    }
+
+    @Test
+    void givenOpenLog_whenOpenSameDirectoryAgain_shouldFailUntilClosed() {
+        OrderLifecycleLog log = new OrderLifecycleLog(directory, THREE_RECORDS);
+
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> new OrderLifecycleLog(directory, THREE_RECORDS));
+
+        log.close();
+        appendPlaced(new OrderLifecycleLog(directory, THREE_RECORDS), 1);
+
+        Assertions.assertThat(readOrderIds()).hasSize(1);
+    }
+
+    @Test
+    void givenSegmentSizeNotMultipleOfRecord_whenCreate_shouldFail() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new OrderLifecycleLog(directory, OrderLifecycleSegments.RECORD_SIZE + 1));
+    }
+
+    private List<OrderId> appendPlaced(OrderLifecycleLog log, int count) {
+        List<OrderId> orderIds = new ArrayList<>(count);
+        try (log) {
+            for (int i = 0; i < count; i++) {
+                OrderId orderId = new OrderId();
+                log.append(orderId, OrderStatus.PLACED, NOW);
+                orderIds.add(orderId);
+            }
+        }
+        return orderIds;
+    }
+
+    private List<OrderId> readOrderIds() {
+        return readAll().stream().map(OrderLifecycleEntry::orderId).toList();
+    }
+
+    private List<OrderLifecycleEntry> readAll() {
+        OrderLifecycleLogReader reader = new OrderLifecycleLogReader(directory, THREE_RECORDS);
+        List<OrderLifecycleEntry> entries = new ArrayList<>();
+        while (reader.poll(entries::add, 100) > 0) {
+        }
+        return entries;
+    }
+}
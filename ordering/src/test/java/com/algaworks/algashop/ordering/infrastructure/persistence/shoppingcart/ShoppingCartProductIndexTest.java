@@ -0,0 +1,155 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.entity.ProductTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.event.DomainEvent;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ProductId;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+class ShoppingCartProductIndexTest {
+
+    private final ShoppingCartProductIndex index = new ShoppingCartProductIndex();
+
+    @Test
+    void givenIndexedCarts_whenLookupProduct_shouldReturnOnlyCartsContainingIt() {
+        Product notebook = ProductTestDataBuilder.aProduct().build();
+        Product mousePad = ProductTestDataBuilder.aProductAltMousePad().build();
+        ShoppingCart first = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        ShoppingCart second = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        first.addItem(notebook, new Quantity(1));
+        first.addItem(mousePad, new Quantity(1));
+        second.addItem(mousePad, new Quantity(3));
+
+        index.index(first);
+        index.index(second);
+
+        Assertions.assertThat(index.cartsContaining(notebook.id())).containsExactly(first.id());
+        Assertions.assertThat(index.cartsContaining(mousePad.id())).containsExactlyInAnyOrder(first.id(), second.id());
+        Assertions.assertThat(index.entryCount()).isEqualTo(3);
+    }
+
+    @Test
+    void givenIndexedCart_whenItemRemovedAndReindexed_shouldDropPosting() {
+        Product notebook = ProductTestDataBuilder.aProduct().build();
+        Product mousePad = ProductTestDataBuilder.aProductAltMousePad().build();
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        cart.addItem(notebook, new Quantity(1));
+        cart.addItem(mousePad, new Quantity(1));
+        index.index(cart);
+
+        cart.removeItem(cart.findItem(notebook.id()).id());
+        index.index(cart);
+
+        Assertions.assertThat(index.cartsContaining(notebook.id())).isEmpty();
+        Assertions.assertThat(index.cartsContaining(mousePad.id())).containsExactly(cart.id());
+    }
+
+    @Test
+    void givenIndexedCart_whenEmptiedAndReindexed_shouldForgetCart() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        index.index(cart);
+        ProductId productId = cart.items().iterator().next().productId();
+
+        cart.empty();
+        index.index(cart);
+
+        Assertions.assertWith(index,
+                i -> Assertions.assertThat(i.cartsContaining(productId)).isEmpty(),
+                i -> Assertions.assertThat(i.cartCount()).isZero(),
+                i -> Assertions.assertThat(i.entryCount()).isZero()
+        );
+    }
+
+    @Test
+    void givenPostings_whenRemoveLastProductOfCart_shouldReleaseCart() {
+        ShoppingCartId cart = new ShoppingCartId();
+        ProductId productId = new ProductId();
+        index.add(cart, productId);
+        index.add(cart, productId);
+
+        Assertions.assertThat(index.entryCount()).isEqualTo(1);
+
+        index.remove(cart, productId);
+
+        Assertions.assertThat(index.cartCount()).isZero();
+        Assertions.assertThat(index.cartsContaining(productId)).isEmpty();
+    }
+
+    @Test
+    void givenManyCarts_whenLookupSeveralProducts_shouldReturnUnionOfCarts() {
+        ProductId first = new ProductId();
+        ProductId second = new ProductId();
+        ShoppingCartId a = new ShoppingCartId();
+        ShoppingCartId b = new ShoppingCartId();
+        ShoppingCartId c = new ShoppingCartId();
+        index.add(a, first);
+        index.add(b, first);
+        index.add(b, second);
+        index.add(c, new ProductId());
+
+        Assertions.assertThat(index.cartsContaining(List.of(first, second, new ProductId())))
+                .containsExactlyInAnyOrder(a, b);
+    }
+
+    @Test
+    void givenCartEvents_whenHandled_shouldKeepIndexInSync() {
+        ShoppingCartProductIndexHandler handler = new ShoppingCartProductIndexHandler(index);
+        Product notebook = ProductTestDataBuilder.aProduct().build();
+        Product mousePad = ProductTestDataBuilder.aProductAltMousePad().build();
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        cart.addItem(notebook, new Quantity(1));
+        cart.addItem(mousePad, new Quantity(1));
+        cart.removeItem(cart.findItem(notebook.id()).id());
+
+        List<DomainEvent> events = cart.pullDomainEvents();
+        for (int i = 0; i < events.size(); i++) {
+            handler.onEvent(events.get(i), i, i == events.size() - 1);
+        }
+
+        Assertions.assertThat(index.cartsContaining(notebook.id())).isEmpty();
+        Assertions.assertThat(index.cartsContaining(mousePad.id())).containsExactly(cart.id());
+
+        cart.empty();
+        cart.pullDomainEvents().forEach(event -> handler.onEvent(event, 0, true));
+
+        Assertions.assertThat(index.cartCount()).isZero();
+        Assertions.assertThat(index.entryCount()).isZero();
+    }
+
+    @Test
+    void givenCartWithManyProducts_whenRemoveSome_shouldKeepRemainingPostings() {
+        ShoppingCartId cart = new ShoppingCartId();
+        List<ProductId> products = List.of(new ProductId(), new ProductId(), new ProductId(),
+                new ProductId(), new ProductId(), new ProductId(), new ProductId());
+        products.forEach(productId -> index.add(cart, productId));
+
+        index.remove(cart, products.get(0));
+        index.remove(cart, products.get(5));
+
+        Assertions.assertThat(index.entryCount()).isEqualTo(5);
+        Assertions.assertThat(index.cartsContaining(products.get(0))).isEmpty();
+        Assertions.assertThat(index.cartsContaining(products.get(6))).containsExactly(cart);
+        Assertions.assertThat(index.cartsContaining(products)).containsExactly(cart);
+    }
+
+    @Test
+    void givenHundredThousandCarts_whenIndexed_shouldStayUnderThirtyTwoBytesPerEntry() {
+        for (int cart = 0; cart < 100_000; cart++) {
+            ShoppingCartId shoppingCartId = new ShoppingCartId(new UUID(2L, cart));
+            for (int product = 0; product < 3; product++) {
+                index.add(shoppingCartId, new ProductId(new UUID(1L, (cart * 7L + product * 3_331L) % 10_000)));
+            }
+        }
+
+        Assertions.assertThat(index.entryCount()).isEqualTo(300_000);
+        Assertions.assertThat(index.footprintBytes() / index.entryCount()).isLessThan(32);
+    }
+}
@@ -0,0 +1,211 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.entity.ProductTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.entity.ShoppingCartTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.event.DomainEvent;
+import com.algaworks.algashop.ordering.domain.event.ShoppingCartItemAddedEvent;
+import com.algaworks.algashop.ordering.domain.valueobject.Money;
+import com.algaworks.algashop.ordering.domain.valueobject.Product;
+import com.algaworks.algashop.ordering.domain.valueobject.Quantity;
+import com.algaworks.algashop.ordering.domain.valueobject.id.ShoppingCartId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class WriteBehindShoppingCartRepositoryTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private EmbeddedDatabase database;
+    private ShoppingCartJdbcStore store;
+    private final List<DomainEvent> publishedEvents = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        store = new ShoppingCartJdbcStore(new JdbcTemplate(database),
+                new TransactionTemplate(new DataSourceTransactionManager(database)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void givenManyMutations_whenFlush_shouldWriteLatestStateOnce() {
+        WriteBehindShoppingCartRepository repository = repository(NEVER);
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        Product product = ProductTestDataBuilder.aProductAltMousePad().build();
+        repository.add(cart);
+
+        for (int i = 0; i < 5; i++) {
+            repository.modify(cart.id(), c -> c.addItem(product, new Quantity(1)));
+        }
+
+        Assertions.assertThat(repository.pendingCount()).isEqualTo(1);
+        Assertions.assertThat(store.exists(cart.id())).isFalse();
+
+        repository.flush();
+
+        Assertions.assertThat(repository.pendingCount()).isZero();
+        Assertions.assertWith(store.load(cart.id()).orElseThrow(),
+                c -> Assertions.assertThat(c.items()).hasSize(1),
+                c -> Assertions.assertThat(c.totalItems()).isEqualTo(new Quantity(5)),
+                c -> Assertions.assertThat(c.totalAmount()).isEqualTo(new Money("500")),
+                c -> Assertions.assertThat(c.customerId()).isEqualTo(cart.customerId())
+        );
+    }
+
+    @Test
+    void givenMutation_whenModify_shouldPublishAndClearCartEvents() {
+        WriteBehindShoppingCartRepository repository = repository(NEVER);
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        Product product = ProductTestDataBuilder.aProductAltMousePad().build();
+        repository.add(cart);
+        publishedEvents.clear();
+
+        repository.modify(cart.id(), c -> c.addItem(product, new Quantity(2)));
+
+        Assertions.assertThat(publishedEvents).hasSize(1);
+        ShoppingCartItemAddedEvent event = (ShoppingCartItemAddedEvent) publishedEvents.getFirst();
+        Assertions.assertThat(event.shoppingCartId()).isEqualTo(cart.id());
+        Assertions.assertThat(event.productId()).isEqualTo(product.id());
+        Assertions.assertThat(event.quantity()).isEqualTo(new Quantity(2));
+        Assertions.assertThat(cart.domainEvents()).isEmpty();
+    }
+
+    @Test
+    void givenPendingCarts_whenClose_shouldFlush() {
+        WriteBehindShoppingCartRepository repository = repository(NEVER);
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        repository.add(cart);
+
+        repository.close();
+
+        Assertions.assertThat(store.exists(cart.id())).isTrue();
+    }
+
+    @Test
+    void givenClosedRepository_whenAdd_shouldWriteThrough() {
+        WriteBehindShoppingCartRepository repository = repository(NEVER);
+        repository.close();
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+
+        repository.add(cart);
+
+        Assertions.assertThat(store.exists(cart.id())).isTrue();
+    }
+
+    @Test
+    void givenFlushedCart_whenEmptiedAndFlushedAgain_shouldRemoveItems() {
+        WriteBehindShoppingCartRepository repository = repository(NEVER);
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        repository.add(cart);
+        repository.flush();
+
+        repository.modify(cart.id(), ShoppingCart::empty);
+        repository.flush();
+
+        Assertions.assertThat(store.load(cart.id()).orElseThrow().isEmpty()).isTrue();
+    }
+
+    @Test
+    void givenStoredCart_whenOfIdOnNewRepository_shouldLoadAndReturnDetachedCopies() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        try (WriteBehindShoppingCartRepository repository = repository(NEVER)) {
+            repository.add(cart);
+        }
+
+        WriteBehindShoppingCartRepository repository = repository(NEVER);
+        ShoppingCart loaded = repository.ofId(cart.id()).orElseThrow();
+
+        Assertions.assertThat(loaded.items()).hasSize(2);
+        Assertions.assertThat(loaded.totalAmount()).isEqualTo(cart.totalAmount());
+        Assertions.assertThat(repository.liveCount()).isEqualTo(1);
+        Assertions.assertThat(repository.ofId(cart.id()).orElseThrow()).isNotSameAs(loaded);
+        Assertions.assertThat(repository.ofId(new ShoppingCartId())).isEmpty();
+        Assertions.assertThat(repository.modify(new ShoppingCartId(), ShoppingCart::empty)).isFalse();
+    }
+
+    @Test
+    void givenCopyFromOfId_whenMutatedOutsideModify_shouldNotChangeLiveCart() {
+        WriteBehindShoppingCartRepository repository = repository(NEVER);
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        repository.add(cart);
+        repository.flush();
+
+        ShoppingCart copy = repository.ofId(cart.id()).orElseThrow();
+        copy.empty();
+        cart.empty();
+        repository.flush();
+
+        Assertions.assertThat(repository.pendingCount()).isZero();
+        Assertions.assertThat(repository.ofId(cart.id()).orElseThrow().items()).hasSize(2);
+        Assertions.assertThat(store.load(cart.id()).orElseThrow().items()).hasSize(2);
+    }
+
+    @Test
+    void givenFlushedIdleCart_whenFlush_shouldEvictItAndReloadOnNextAccess() {
+        WriteBehindShoppingCartRepository repository = repository(NEVER, Duration.ZERO);
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        repository.add(cart);
+
+        Assertions.assertThat(repository.liveCount()).isEqualTo(1);
+
+        repository.flush();
+
+        Assertions.assertThat(repository.liveCount()).isZero();
+        Assertions.assertThat(repository.modify(cart.id(), ShoppingCart::empty)).isTrue();
+        Assertions.assertThat(repository.pendingCount()).isEqualTo(1);
+
+        repository.flush();
+
+        Assertions.assertThat(store.load(cart.id()).orElseThrow().isEmpty()).isTrue();
+    }
+
+    @Test
+    void givenShortInterval_whenCartAdded_shouldFlushInBackground() throws InterruptedException {
+        WriteBehindShoppingCartRepository repository = repository(Duration.ofMillis(20));
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+
+        repository.add(cart);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!store.exists(cart.id()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertThat(store.exists(cart.id())).isTrue();
+        repository.close();
+    }
+
+    @Test
+    void givenNonPositiveInterval_whenCreate_shouldThrow() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> repository(Duration.ZERO));
+    }
+
+    private WriteBehindShoppingCartRepository repository(Duration flushInterval) {
+        return repository(flushInterval, NEVER);
+    }
+
+    private WriteBehindShoppingCartRepository repository(Duration flushInterval, Duration idleTimeout) {
+        return new WriteBehindShoppingCartRepository(store, flushInterval, idleTimeout, publishedEvents::add);
+    }
+}
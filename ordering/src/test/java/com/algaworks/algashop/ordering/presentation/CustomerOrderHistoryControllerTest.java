@@ -0,0 +1,101 @@
+package com.algaworks.algashop.ordering.presentation;
+
+import com.algaworks.algashop.ordering.domain.entity.Order;
+import com.algaworks.algashop.ordering.domain.entity.OrderStatus;
+import com.algaworks.algashop.ordering.domain.entity.OrderTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.event.DomainEventPublisher;
+import com.algaworks.algashop.ordering.domain.valueobject.id.CustomerId;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderHistoryQuery;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderJdbcRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+class CustomerOrderHistoryControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final CustomerId customerId = new CustomerId();
+
+    private EmbeddedDatabase database;
+    private OrderJdbcRepository repository;
+    private CustomerOrderHistoryController controller;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        repository = new OrderJdbcRepository(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(database)),
+                DomainEventPublisher.DISCARDING);
+        controller = new CustomerOrderHistoryController(new OrderHistoryQuery(jdbcTemplate), objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void givenThreeOrders_whenFollowingCursors_shouldStreamEveryOrderOnce() throws IOException {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Order order = OrderTestDataBuilder.anOrder().customerId(customerId).status(OrderStatus.PLACED).build();
+            repository.add(order);
+            orders.add(order);
+        }
+
+        JsonNode firstPage = this.get(null, 2);
+        Assertions.assertThat(firstPage.get("orders").size()).isEqualTo(2);
+        Assertions.assertThat(firstPage.get("orders").get(0).get("id").asText())
+                .isEqualTo(orders.get(2).id().toString());
+        Assertions.assertThat(firstPage.get("orders").get(0).get("status").asText()).isEqualTo("PLACED");
+        Assertions.assertThat(firstPage.get("orders").get(0).get("totalAmount").decimalValue())
+                .isEqualByComparingTo(orders.get(2).totalAmount().value());
+        Assertions.assertThat(firstPage.get("nextCursor").asText()).isEqualTo(orders.get(1).id().toString());
+
+        JsonNode lastPage = this.get(firstPage.get("nextCursor").asText(), 2);
+        Assertions.assertThat(lastPage.get("orders").size()).isEqualTo(1);
+        Assertions.assertThat(lastPage.get("orders").get(0).get("id").asText())
+                .isEqualTo(orders.get(0).id().toString());
+        Assertions.assertThat(lastPage.get("nextCursor").isNull()).isTrue();
+    }
+
+    @Test
+    void givenInvalidCursorOrSize_whenGet_shouldRejectWithBadRequest() {
+        Assertions.assertThatThrownBy(() -> controller.history(customerId.value(), "not-a-tsid", 20))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> Assertions.assertThat(((ResponseStatusException) e).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+        Assertions.assertThatThrownBy(() -> controller.history(customerId.value(), null, 0))
+                .isInstanceOf(ResponseStatusException.class);
+        Assertions.assertThatThrownBy(() -> controller.history(customerId.value(), null,
+                        OrderHistoryQuery.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    private JsonNode get(String cursor, int size) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        controller.history(customerId.value(), cursor, size).getBody().writeTo(out);
+        return objectMapper.readTree(out.toByteArray());
+    }
+}